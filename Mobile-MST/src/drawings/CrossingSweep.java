@@ -0,0 +1,442 @@
+package drawings;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Bentley-Ottmann plane sweep that reports all crossing pairs of a set of line segments in their initial positions
+ * in O((n + k) log n) time for n segments and k crossings. <br>
+ * Uses the same semantics as LineSegment.isCrossing: segments that only touch in an endpoint or in a T-junction are not
+ * crossing, collinear segments are crossing if they overlap. All predicates are evaluated exactly on rational coordinates in 64 bit
+ * numerators and denominators, whose largest intermediate values are 48 * c^4 for coordinates of magnitude c. The segments are therefore
+ * translated to the center of their bounding box and must have coordinates of magnitude at most MAX_COORDINATE there, which allows an extent
+ * of 32766 in both directions. Segments of a larger extent are tested pairwise with LineSegment.isCrossing in O(n^2) time instead.
+ */
+public class CrossingSweep {
+
+	public static final int MAX_COORDINATE = (1 << 14) - 1;
+
+	//status probes that enclose all segments through the current event point
+	private static final int PROBE_LOW = -1;
+	private static final int PROBE_HIGH = -2;
+
+	/**
+	 * Callback that receives every crossing pair exactly once
+	 */
+	public interface CrossingListener {
+		void crossing(int a, int b);
+	}
+
+	private int size;
+	//positions of the segments if their extent is too large for the sweep, null otherwise
+	private LineSegment[] pairwise;
+	//segments run from their start point (lower y, lower x on ties) to their end point, translated to the center of their bounding box
+	private long[] sx;
+	private long[] sy;
+	private long[] ex;
+	private long[] ey;
+
+	//current event point (x, y) = (xn / d, yn / d) and side of the sweep line the status order refers to
+	private long currentXn;
+	private long currentYn;
+	private long currentD;
+	private boolean afterCurrent;
+
+	/**
+	 * Prepares a sweep over the positions of the given edges, the index of an edge in the array identifies it in all reports
+	 * @param edges Array of edges
+	 */
+	public CrossingSweep(Edge[] edges) {
+		this.size = edges.length;
+		long minX = Long.MAX_VALUE;
+		long maxX = Long.MIN_VALUE;
+		long minY = Long.MAX_VALUE;
+		long maxY = Long.MIN_VALUE;
+		for(Edge edge : edges) {
+			MovingPoint2D start = edge.getPosition().getStartPoint();
+			MovingPoint2D end = edge.getPosition().getEndPoint();
+			minX = Math.min(minX, Math.min(start.getxCoord(), end.getxCoord()));
+			maxX = Math.max(maxX, Math.max(start.getxCoord(), end.getxCoord()));
+			minY = Math.min(minY, Math.min(start.getyCoord(), end.getyCoord()));
+			maxY = Math.max(maxY, Math.max(start.getyCoord(), end.getyCoord()));
+		}
+		long centerX = Math.floorDiv(minX + maxX, 2);
+		long centerY = Math.floorDiv(minY + maxY, 2);
+		if(this.size > 0 && (maxX - centerX > MAX_COORDINATE || maxY - centerY > MAX_COORDINATE)) {
+			this.pairwise = new LineSegment[this.size];
+			for(int i = 0; i < this.size; i++) {
+				this.pairwise[i] = edges[i].getPosition();
+			}
+			return;
+		}
+
+		this.sx = new long[this.size];
+		this.sy = new long[this.size];
+		this.ex = new long[this.size];
+		this.ey = new long[this.size];
+		for(int i = 0; i < this.size; i++) {
+			MovingPoint2D start = edges[i].getPosition().getStartPoint();
+			MovingPoint2D end = edges[i].getPosition().getEndPoint();
+			if(start.compareTo(end) > 0) {
+				MovingPoint2D temp = start;
+				start = end;
+				end = temp;
+			}
+			this.sx[i] = start.getxCoord() - centerX;
+			this.sy[i] = start.getyCoord() - centerY;
+			this.ex[i] = end.getxCoord() - centerX;
+			this.ey[i] = end.getyCoord() - centerY;
+		}
+	}
+
+	/**
+	 * @return true if the segments are swept, false if their extent is too large and they are tested pairwise
+	 */
+	public boolean isSweep() {
+		return this.pairwise == null;
+	}
+
+	/**
+	 * Counts all crossing pairs of the given edges
+	 * @param edges Array of edges
+	 * @return Number of crossing pairs
+	 */
+	public static long countCrossings(Edge[] edges) {
+		long[] count = new long[1];
+		new CrossingSweep(edges).run((a, b) -> count[0]++);
+		return count[0];
+	}
+
+	/**
+	 * Reports every crossing pair of segments to the listener
+	 * @param listener Receives the indices of both segments of each crossing pair
+	 */
+	public void run(CrossingListener listener) {
+		if(this.pairwise != null) {
+			reportPairwise(listener);
+			return;
+		}
+		reportCollinearOverlaps(listener);
+		sweep(listener);
+	}
+
+	/**
+	 * Tests all pairs of segments, which is used if their extent is too large for the exact arithmetic of the sweep
+	 * @param listener Receives the indices of both segments of each crossing pair
+	 */
+	private void reportPairwise(CrossingListener listener) {
+		for(int a = 0; a < this.size; a++) {
+			for(int b = a + 1; b < this.size; b++) {
+				if(this.pairwise[a].isCrossing(this.pairwise[b])) {
+					listener.crossing(a, b);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Reports all pairs of collinear segments that overlap in more than a point. Segments are grouped by their supporting line
+	 * and every group is swept along the line.
+	 * @param listener Receives the indices of both segments of each overlapping pair
+	 */
+	private void reportCollinearOverlaps(CrossingListener listener) {
+		HashMap<List<Long>, List<Integer>> lines = new HashMap<List<Long>, List<Integer>>();
+		for(int i = 0; i < this.size; i++) {
+			if(isDegenerate(i)) {
+				continue;
+			}
+			long a = this.ey[i] - this.sy[i];
+			long b = this.sx[i] - this.ex[i];
+			long g = gcd(Math.abs(a), Math.abs(b));
+			a /= g;
+			b /= g;
+			long c = a * this.sx[i] + b * this.sy[i];
+			lines.computeIfAbsent(Arrays.asList(a, b, c), key -> new ArrayList<Integer>()).add(i);
+		}
+
+		for(List<Integer> line : lines.values()) {
+			if(line.size() < 2) {
+				continue;
+			}
+			//points on a common line are ordered along it by (y, x)
+			Integer[] order = line.toArray(new Integer[line.size()]);
+			Arrays.sort(order, (s, t) -> comparePoints(this.sx[s], this.sy[s], this.sx[t], this.sy[t]));
+			List<Integer> active = new ArrayList<Integer>();
+			for(int s : order) {
+				int kept = 0;
+				for(int t : active) {
+					//t starts no later than s, so both overlap iff s starts strictly before t ends
+					if(comparePoints(this.sx[s], this.sy[s], this.ex[t], this.ey[t]) < 0) {
+						active.set(kept++, t);
+						listener.crossing(Math.min(s, t), Math.max(s, t));
+					}
+				}
+				active.subList(kept, active.size()).clear();
+				active.add(s);
+			}
+		}
+	}
+
+	/**
+	 * Sweeps a horizontal line upwards over all segments and reports all pairs crossing in a point interior to both segments
+	 * @param listener Receives the indices of both segments of each crossing pair
+	 */
+	private void sweep(CrossingListener listener) {
+		TreeSet<Event> queue = new TreeSet<Event>();
+		for(int i = 0; i < this.size; i++) {
+			if(isDegenerate(i)) {
+				continue;
+			}
+			addEvent(queue, this.sx[i], this.sy[i], 1).addUpper(i);
+			addEvent(queue, this.ex[i], this.ey[i], 1);
+		}
+
+		TreeSet<Integer> status = new TreeSet<Integer>(new StatusOrder());
+		List<Integer> interior = new ArrayList<Integer>();
+
+		while(!queue.isEmpty()) {
+			Event event = queue.pollFirst();
+			this.currentXn = event.xn;
+			this.currentYn = event.yn;
+			this.currentD = event.d;
+
+			//segments through the event point, ordered as just before it
+			this.afterCurrent = false;
+			NavigableSet<Integer> through = status.subSet(PROBE_LOW, false, PROBE_HIGH, false);
+			interior.clear();
+			for(int s : through) {
+				if(!(this.ex[s] * event.d == event.xn && this.ey[s] * event.d == event.yn)) {
+					interior.add(s);
+				}
+			}
+
+			//all segments containing the event point in their interior cross pairwise, collinear ones were reported before
+			for(int i = 0; i < interior.size(); i++) {
+				for(int j = i + 1; j < interior.size(); j++) {
+					int s = interior.get(i);
+					int t = interior.get(j);
+					if(cross(s, t) != 0) {
+						listener.crossing(Math.min(s, t), Math.max(s, t));
+					}
+				}
+			}
+
+			through.clear();
+
+			//reinsert the segments continuing beyond the event point in their order just after it
+			this.afterCurrent = true;
+			for(int i = 0; i < event.upperCount; i++) {
+				status.add(event.upper[i]);
+			}
+			status.addAll(interior);
+
+			through = status.subSet(PROBE_LOW, false, PROBE_HIGH, false);
+			if(through.isEmpty()) {
+				findEvent(queue, status.lower(PROBE_LOW), status.higher(PROBE_HIGH));
+			}
+			else {
+				findEvent(queue, status.lower(through.first()), through.first());
+				findEvent(queue, through.last(), status.higher(through.last()));
+			}
+		}
+	}
+
+	/**
+	 * Adds the intersection point of two segments to the event queue if it lies beyond the current event point
+	 * @param queue Event queue
+	 * @param a Index of the first segment or null
+	 * @param b Index of the second segment or null
+	 */
+	private void findEvent(TreeSet<Event> queue, Integer a, Integer b) {
+		if(a == null || b == null) {
+			return;
+		}
+		long dax = this.ex[a] - this.sx[a];
+		long day = this.ey[a] - this.sy[a];
+		long dbx = this.ex[b] - this.sx[b];
+		long dby = this.ey[b] - this.sy[b];
+		long den = dax * dby - day * dbx;
+		if(den == 0) {
+			return;
+		}
+		long qx = this.sx[b] - this.sx[a];
+		long qy = this.sy[b] - this.sy[a];
+		//a(t) = start_a + t * (end_a - start_a) meets b(u) for t = tn / den and u = un / den
+		long tn = qx * dby - qy * dbx;
+		long un = qx * day - qy * dax;
+		if(den < 0) {
+			den = -den;
+			tn = -tn;
+			un = -un;
+		}
+		if(tn < 0 || tn > den || un < 0 || un > den) {
+			return;
+		}
+		long xn = this.sx[a] * den + tn * dax;
+		long yn = this.sy[a] * den + tn * day;
+		if(compareEvents(xn, yn, den, this.currentXn, this.currentYn, this.currentD) > 0) {
+			addEvent(queue, xn, yn, den);
+		}
+	}
+
+	private static Event addEvent(TreeSet<Event> queue, long xn, long yn, long d) {
+		Event event = new Event(xn, yn, d);
+		Event existing = queue.ceiling(event);
+		if(existing != null && existing.compareTo(event) == 0) {
+			return existing;
+		}
+		queue.add(event);
+		return event;
+	}
+
+	/**
+	 * Orders the segments in the status by their intersection with the sweep line at the current event point
+	 */
+	private class StatusOrder implements Comparator<Integer> {
+
+		public int compare(Integer a, Integer b) {
+			if(a.intValue() == b.intValue()) {
+				return 0;
+			}
+			long numA = xNumerator(a);
+			long denA = xDenominator(a);
+			long numB = xNumerator(b);
+			long denB = xDenominator(b);
+			int byX = compareProducts(numA, denB, numB, denA);
+			if(byX != 0) {
+				return byX;
+			}
+
+			//probes enclose everything through the current event point
+			if(a == PROBE_LOW || b == PROBE_HIGH) {
+				return -1;
+			}
+			if(a == PROBE_HIGH || b == PROBE_LOW) {
+				return 1;
+			}
+
+			//both segments pass through the same point of the sweep line
+			int atCurrent = compareProducts(numA, CrossingSweep.this.currentD, CrossingSweep.this.currentXn, denA);
+			boolean after = atCurrent < 0 || (atCurrent == 0 && CrossingSweep.this.afterCurrent);
+			int byDirection = compareDirections(a, b);
+			if(byDirection != 0) {
+				return after ? byDirection : -byDirection;
+			}
+			return Integer.compare(a, b);
+		}
+	}
+
+	/**
+	 * Numerator of the x-coordinate at which a segment meets the sweep line, probes and horizontal segments are located at the current event point
+	 */
+	private long xNumerator(int s) {
+		if(s < 0 || this.sy[s] == this.ey[s]) {
+			return this.currentXn;
+		}
+		long dy = this.ey[s] - this.sy[s];
+		return this.sx[s] * dy * this.currentD + (this.currentYn - this.sy[s] * this.currentD) * (this.ex[s] - this.sx[s]);
+	}
+
+	private long xDenominator(int s) {
+		if(s < 0 || this.sy[s] == this.ey[s]) {
+			return this.currentD;
+		}
+		return (this.ey[s] - this.sy[s]) * this.currentD;
+	}
+
+	/**
+	 * Orders two segments through a common point by their direction beyond it, horizontal segments come last
+	 */
+	private int compareDirections(int a, int b) {
+		boolean horizontalA = this.sy[a] == this.ey[a];
+		boolean horizontalB = this.sy[b] == this.ey[b];
+		if(horizontalA || horizontalB) {
+			return Boolean.compare(horizontalA, horizontalB);
+		}
+		return Long.signum((this.ex[a] - this.sx[a]) * (this.ey[b] - this.sy[b]) - (this.ex[b] - this.sx[b]) * (this.ey[a] - this.sy[a]));
+	}
+
+	private long cross(int a, int b) {
+		return (this.ex[a] - this.sx[a]) * (this.ey[b] - this.sy[b]) - (this.ey[a] - this.sy[a]) * (this.ex[b] - this.sx[b]);
+	}
+
+	private boolean isDegenerate(int s) {
+		return this.sx[s] == this.ex[s] && this.sy[s] == this.ey[s];
+	}
+
+	private static int comparePoints(long x1, long y1, long x2, long y2) {
+		if(y1 != y2) {
+			return Long.compare(y1, y2);
+		}
+		return Long.compare(x1, x2);
+	}
+
+	/**
+	 * Orders two rational points (xn1 / d1, yn1 / d1) and (xn2 / d2, yn2 / d2) with positive denominators by y, then by x
+	 */
+	private static int compareEvents(long xn1, long yn1, long d1, long xn2, long yn2, long d2) {
+		int byY = compareProducts(yn1, d2, yn2, d1);
+		if(byY != 0) {
+			return byY;
+		}
+		return compareProducts(xn1, d2, xn2, d1);
+	}
+
+	/**
+	 * Computes the sign of a * b - c * d without overflow
+	 */
+	private static int compareProducts(long a, long b, long c, long d) {
+		long high1 = Math.multiplyHigh(a, b);
+		long high2 = Math.multiplyHigh(c, d);
+		if(high1 != high2) {
+			return high1 < high2 ? -1 : 1;
+		}
+		return Long.compareUnsigned(a * b, c * d);
+	}
+
+	private static long gcd(long a, long b) {
+		while(b != 0) {
+			long temp = a % b;
+			a = b;
+			b = temp;
+		}
+		return a;
+	}
+
+	/**
+	 * Event point of the sweep together with the segments starting in it
+	 */
+	private static class Event implements Comparable<Event> {
+
+		long xn;
+		long yn;
+		long d;
+		int[] upper;
+		int upperCount;
+
+		Event(long xn, long yn, long d) {
+			this.xn = xn;
+			this.yn = yn;
+			this.d = d;
+			this.upper = new int[0];
+			this.upperCount = 0;
+		}
+
+		void addUpper(int s) {
+			if(this.upperCount == this.upper.length) {
+				this.upper = Arrays.copyOf(this.upper, Math.max(4, 2 * this.upperCount));
+			}
+			this.upper[this.upperCount++] = s;
+		}
+
+		public int compareTo(Event other) {
+			return compareEvents(this.xn, this.yn, this.d, other.xn, other.yn, other.d);
+		}
+	}
+
+}
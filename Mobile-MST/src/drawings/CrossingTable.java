@@ -0,0 +1,281 @@
+package drawings;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Precomputed crossing relation between all edges of a candidate graph. <br>
+ * Tables of pairwise tests are stored as a packed bitset with one row per edge. Tables of the plane sweep store the crossing edges of every edge
+ * as a sorted list instead, so that their size is linear in the number of crossings. <br>
+ * Edges are addressed by their id, which must equal their index in the array the table was built from.
+ */
+public class CrossingTable {
+
+	//largest length of the arrays of a table
+	private static final long MAX_LENGTH = Integer.MAX_VALUE - 8;
+
+	private int size;
+	//number of 64 bit words per row of the bitset
+	private int words;
+	private long[] bits;
+	//crossing edges of edge a in ascending order at the positions start[a] to start[a + 1] - 1 of conflicts, null for a bitset
+	private int[] start;
+	private int[] conflicts;
+
+	/**
+	 * Tests all pairs of the given edges for crossings in their initial positions
+	 * @param edges Edges of a candidate graph, edges[i] must have id i
+	 * @param parallel Specifies if the rows are computed in parallel
+	 * @throws IllegalArgumentException
+	 */
+	public CrossingTable(Edge[] edges, boolean parallel) {
+		this(edges.length);
+		checkIds(edges);
+
+		if(parallel) {
+			//every worker owns its rows, so each pair is tested twice but no row is shared between threads
+			IntStream.range(0, this.size).parallel().forEach(i -> {
+				LineSegment line = edges[i].getPosition();
+				for(int j = 0; j < this.size; j++) {
+					if(i != j && line.isCrossing(edges[j].getPosition())) {
+						this.bits[row(i) + (j >>> 6)] |= 1L << j;
+					}
+				}
+			});
+		}
+		else {
+			for(int i = 0; i < this.size; i++) {
+				LineSegment line = edges[i].getPosition();
+				for(int j = i + 1; j < this.size; j++) {
+					if(line.isCrossing(edges[j].getPosition())) {
+						this.bits[row(i) + (j >>> 6)] |= 1L << j;
+						this.bits[row(j) + (i >>> 6)] |= 1L << i;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Creates an empty bitset
+	 * @param size Number of edges
+	 * @throws IllegalArgumentException
+	 */
+	private CrossingTable(int size) {
+		this.size = size;
+		this.words = (this.size + 63) >>> 6;
+		long length = (long) this.size * this.words;
+		if(length > MAX_LENGTH) {
+			throw new IllegalArgumentException("Too many edges for a crossing table: " + size);
+		}
+		this.bits = new long[(int) length];
+	}
+
+	/**
+	 * Creates a table from the sorted lists of crossing edges of all edges
+	 * @param size Number of edges
+	 * @param start Position of the list of every edge, followed by the total length of all lists
+	 * @param conflicts Concatenated lists of crossing edges
+	 */
+	private CrossingTable(int size, int[] start, int[] conflicts) {
+		this.size = size;
+		this.start = start;
+		this.conflicts = conflicts;
+	}
+
+	private static void checkIds(Edge[] edges) {
+		for(int i = 0; i < edges.length; i++) {
+			if(edges[i].getId() != i) {
+				throw new IllegalArgumentException("Edge ids have to match their position in the array");
+			}
+		}
+	}
+
+	/**
+	 * @param a Id of an edge
+	 * @return Position of the first word of the row of the edge in the bitset
+	 */
+	private int row(int a) {
+		return (int) ((long) a * this.words);
+	}
+
+	/**
+	 * Restricts the table to a subset of its edges, the subset is stored in the same way as the table
+	 * @param ids Ids of the edges to keep, edge ids[i] gets id i in the new table
+	 * @throws IllegalArgumentException
+	 * @return Crossing table of the subset
+	 */
+	public CrossingTable subTable(int[] ids) {
+		if(this.start != null) {
+			//new id of every kept edge, looked up by binary search over the old ids
+			long[] keys = new long[ids.length];
+			for(int i = 0; i < ids.length; i++) {
+				keys[i] = ((long) ids[i] << 32) | i;
+			}
+			Arrays.sort(keys);
+			PairList pairs = new PairList();
+			for(int i = 0; i < ids.length; i++) {
+				for(int c = this.start[ids[i]]; c < this.start[ids[i] + 1]; c++) {
+					int position = Arrays.binarySearch(keys, (long) this.conflicts[c] << 32);
+					if(position < 0) {
+						position = -position - 1;
+					}
+					if(position < keys.length && (int) (keys[position] >>> 32) == this.conflicts[c] && (int) keys[position] > i) {
+						pairs.add(i, (int) keys[position]);
+					}
+				}
+			}
+			return fromPairs(ids.length, pairs);
+		}
+
+		CrossingTable table = new CrossingTable(ids.length);
+		for(int i = 0; i < ids.length; i++) {
+			for(int j = i + 1; j < ids.length; j++) {
+				if(crosses(ids[i], ids[j])) {
+					table.bits[table.row(i) + (j >>> 6)] |= 1L << j;
+					table.bits[table.row(j) + (i >>> 6)] |= 1L << i;
+				}
+			}
+		}
+		return table;
+	}
+
+	/**
+	 * Builds the table from a plane sweep over the edges, which only spends time and memory on pairs that actually cross
+	 * @param edges Edges of a candidate graph, edges[i] must have id i
+	 * @throws IllegalArgumentException
+	 * @return Crossing table of the edges, stored as lists of crossing edges
+	 */
+	public static CrossingTable fromSweep(Edge[] edges) {
+		checkIds(edges);
+		PairList pairs = new PairList();
+		new CrossingSweep(edges).run(pairs::add);
+		return fromPairs(edges.length, pairs);
+	}
+
+	/**
+	 * Builds the lists of crossing edges of all edges from the crossing pairs
+	 * @param size Number of edges
+	 * @param pairs Crossing pairs, each reported once
+	 * @return Crossing table of the edges, stored as lists of crossing edges
+	 */
+	private static CrossingTable fromPairs(int size, PairList pairs) {
+		int[] start = new int[size + 1];
+		for(int i = 0; i < pairs.count; i++) {
+			start[pairs.first[i] + 1]++;
+			start[pairs.second[i] + 1]++;
+		}
+		for(int a = 0; a < size; a++) {
+			start[a + 1] += start[a];
+		}
+		int[] conflicts = new int[2 * pairs.count];
+		int[] next = Arrays.copyOf(start, size);
+		for(int i = 0; i < pairs.count; i++) {
+			conflicts[next[pairs.first[i]]++] = pairs.second[i];
+			conflicts[next[pairs.second[i]]++] = pairs.first[i];
+		}
+		for(int a = 0; a < size; a++) {
+			Arrays.sort(conflicts, start[a], start[a + 1]);
+		}
+		return new CrossingTable(size, start, conflicts);
+	}
+
+	/**
+	 * Returns whether two edges of the table cross
+	 * @param a Id of the first edge
+	 * @param b Id of the second edge
+	 * @return true if the edges are crossing, false otherwise
+	 */
+	public boolean crosses(int a, int b) {
+		if(this.start != null) {
+			return Arrays.binarySearch(this.conflicts, this.start[a], this.start[a + 1], b) >= 0;
+		}
+		return (this.bits[row(a) + (b >>> 6)] & (1L << b)) != 0;
+	}
+
+	/**
+	 * Counts the edges of the table that cross the given edge
+	 * @param a Id of an edge
+	 * @return Number of crossing edges
+	 */
+	public int countCrossings(int a) {
+		if(this.start != null) {
+			return this.start[a + 1] - this.start[a];
+		}
+		int count = 0;
+		int row = row(a);
+		for(int w = 0; w < this.words; w++) {
+			count += Long.bitCount(this.bits[row + w]);
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the next edge crossing the given edge
+	 * @param a Id of an edge
+	 * @param from Smallest id to consider
+	 * @return Smallest id of at least from of an edge crossing a, or -1 if there is none
+	 */
+	public int nextCrossing(int a, int from) {
+		if(from >= this.size) {
+			return -1;
+		}
+		if(this.start != null) {
+			int position = Arrays.binarySearch(this.conflicts, this.start[a], this.start[a + 1], from);
+			if(position < 0) {
+				position = -position - 1;
+			}
+			return position < this.start[a + 1] ? this.conflicts[position] : -1;
+		}
+		int row = row(a);
+		int w = from >>> 6;
+		long word = this.bits[row + w] & (-1L << from);
+		while(word == 0) {
+			if(++w == this.words) {
+				return -1;
+			}
+			word = this.bits[row + w];
+		}
+		return (w << 6) + Long.numberOfTrailingZeros(word);
+	}
+
+	public int getSize() {
+		return this.size;
+	}
+
+	/**
+	 * @return true if the table stores the crossing edges of every edge as a list, false if it is a bitset
+	 */
+	public boolean isSparse() {
+		return this.start != null;
+	}
+
+	/**
+	 * Growing list of crossing pairs
+	 */
+	private static class PairList {
+
+		int[] first = new int[64];
+		int[] second = new int[64];
+		int count;
+
+		/**
+		 * @throws IllegalArgumentException
+		 */
+		void add(int a, int b) {
+			if(this.count == this.first.length) {
+				//both edges of a pair list each other
+				if(2L * this.count + 2 > MAX_LENGTH) {
+					throw new IllegalArgumentException("Too many crossings for a crossing table");
+				}
+				int capacity = (int) Math.min(MAX_LENGTH / 2, 2L * this.count);
+				this.first = Arrays.copyOf(this.first, capacity);
+				this.second = Arrays.copyOf(this.second, capacity);
+			}
+			this.first[this.count] = a;
+			this.second[this.count] = b;
+			this.count++;
+		}
+	}
+
+}
@@ -0,0 +1,277 @@
+package drawings;
+
+import java.util.Arrays;
+
+import util.UnionFind;
+
+/**
+ * Splits the planar minimum spanning tree problem on a candidate graph into independent subproblems. <br>
+ * A spanning tree of a graph is exactly a union of spanning trees of its blocks, the maximal biconnected subgraphs, since every cycle lies within
+ * one block. The components of the crossing relation alone are not independent, because the spanning tree constraint couples them through
+ * the vertices. Blocks with crossing edges are therefore merged into groups, and a planar minimum spanning tree is the union of planar minimum
+ * spanning forests of all groups. <br>
+ * Every group is given as a subgraph with its own ids and vertex labels, in which one vertex of every connected piece of the group is merged
+ * into vertex 0. This keeps the cycles of the group unchanged, so that the spanning trees of the subgraph are exactly the spanning forests
+ * of the group.
+ */
+public class Decomposition {
+
+	private EdgeTable edges;
+	private CrossingTable crossings;
+	private int vertexCount;
+	private boolean connected;
+
+	//ids of the edges of every group in ascending order, and group of every edge
+	private int[][] groups;
+	private int[] groupOf;
+	//number of vertices of the subgraph of every group
+	private int[] groupVertexCounts;
+	private int blockCount;
+
+	/**
+	 * Computes the blocks of a candidate graph and merges blocks with crossing edges
+	 * @param edges Candidate graph sorted by weight
+	 * @param crossings Crossing relation of the candidate graph
+	 * @param vertexCount Number of vertices of the graph
+	 */
+	public Decomposition(EdgeTable edges, CrossingTable crossings, int vertexCount) {
+		this.edges = edges;
+		this.crossings = crossings;
+		this.vertexCount = vertexCount;
+
+		int[] blockOf = new int[edges.size()];
+		this.blockCount = computeBlocks(blockOf);
+		if(!this.connected) {
+			this.groups = new int[0][];
+			this.groupOf = new int[edges.size()];
+			this.groupVertexCounts = new int[0];
+			return;
+		}
+
+		UnionFind unionFind = new UnionFind(this.blockCount);
+		for(int a = 0; a < edges.size(); a++) {
+			for(int b = crossings.nextCrossing(a, a + 1); b >= 0; b = crossings.nextCrossing(a, b + 1)) {
+				unionFind.union(blockOf[a], blockOf[b]);
+			}
+		}
+
+		//number the groups in the order of their cheapest edge
+		int[] groupOfBlock = new int[this.blockCount];
+		Arrays.fill(groupOfBlock, -1);
+		int[] sizes = new int[this.blockCount];
+		int groupCount = 0;
+		this.groupOf = new int[edges.size()];
+		for(int id = 0; id < edges.size(); id++) {
+			int root = unionFind.getRepresentative(blockOf[id]);
+			if(groupOfBlock[root] < 0) {
+				groupOfBlock[root] = groupCount++;
+			}
+			this.groupOf[id] = groupOfBlock[root];
+			sizes[this.groupOf[id]]++;
+		}
+		this.groups = new int[groupCount][];
+		for(int g = 0; g < groupCount; g++) {
+			this.groups[g] = new int[sizes[g]];
+			sizes[g] = 0;
+		}
+		for(int id = 0; id < edges.size(); id++) {
+			this.groups[this.groupOf[id]][sizes[this.groupOf[id]]++] = id;
+		}
+
+		this.groupVertexCounts = new int[groupCount];
+		for(int g = 0; g < groupCount; g++) {
+			this.groupVertexCounts[g] = relabel(g, null, null);
+		}
+	}
+
+	/**
+	 * Computes the blocks of the candidate graph by an iterative depth-first search from vertex 0
+	 * @param blockOf Receives the block of every edge
+	 * @return Number of blocks
+	 */
+	private int computeBlocks(int[] blockOf) {
+		int size = this.edges.size();
+
+		//adjacency of every vertex as ranges of an array of edge ids
+		int[] start = new int[this.vertexCount + 1];
+		for(int id = 0; id < size; id++) {
+			start[this.edges.getSrc(id) + 1]++;
+			start[this.edges.getDest(id) + 1]++;
+		}
+		for(int v = 0; v < this.vertexCount; v++) {
+			start[v + 1] += start[v];
+		}
+		int[] adjacent = new int[2 * size];
+		int[] next = Arrays.copyOf(start, this.vertexCount);
+		for(int id = 0; id < size; id++) {
+			adjacent[next[this.edges.getSrc(id)]++] = id;
+			adjacent[next[this.edges.getDest(id)]++] = id;
+		}
+
+		int[] discovered = new int[this.vertexCount];
+		int[] low = new int[this.vertexCount];
+		int[] parentEdge = new int[this.vertexCount];
+		int[] vertexStack = new int[this.vertexCount];
+		int[] edgeStack = new int[size];
+		int vertexTop = 0;
+		int edgeTop = 0;
+		int time = 0;
+		int blocks = 0;
+
+		if(this.vertexCount > 0) {
+			discovered[0] = low[0] = ++time;
+			parentEdge[0] = -1;
+			vertexStack[vertexTop++] = 0;
+		}
+		//next holds the position of the next edge to examine of every vertex
+		System.arraycopy(start, 0, next, 0, this.vertexCount);
+		while(vertexTop > 0) {
+			int u = vertexStack[vertexTop - 1];
+			if(next[u] < start[u + 1]) {
+				int id = adjacent[next[u]++];
+				if(id == parentEdge[u]) {
+					continue;
+				}
+				int v = this.edges.getSrc(id) == u ? this.edges.getDest(id) : this.edges.getSrc(id);
+				if(discovered[v] == 0) {
+					edgeStack[edgeTop++] = id;
+					parentEdge[v] = id;
+					discovered[v] = low[v] = ++time;
+					vertexStack[vertexTop++] = v;
+				}
+				else if(discovered[v] < discovered[u]) {
+					//back edge
+					edgeStack[edgeTop++] = id;
+					low[u] = Math.min(low[u], discovered[v]);
+				}
+			}
+			else {
+				vertexTop--;
+				if(vertexTop > 0) {
+					int parent = vertexStack[vertexTop - 1];
+					low[parent] = Math.min(low[parent], low[u]);
+					if(low[u] >= discovered[parent]) {
+						//parent separates the subtree of u, its edges on the stack form a block
+						int id;
+						do {
+							id = edgeStack[--edgeTop];
+							blockOf[id] = blocks;
+						} while(id != parentEdge[u]);
+						blocks++;
+					}
+				}
+			}
+		}
+
+		this.connected = true;
+		for(int v = 0; v < this.vertexCount; v++) {
+			this.connected &= discovered[v] != 0;
+		}
+		return blocks;
+	}
+
+	/**
+	 * Labels the vertices of a group, merging one vertex of every connected piece of the group into vertex 0
+	 * @param group Index of the group
+	 * @param src Receives the label of the source of every edge of the group, or null
+	 * @param dest Receives the label of the destination of every edge of the group, or null
+	 * @return Number of labels
+	 */
+	private int relabel(int group, int[] src, int[] dest) {
+		int[] ids = this.groups[group];
+		//the vertices of a group are numbered in the order they appear, so that the union find only spans the group
+		int[] local = new int[this.vertexCount];
+		Arrays.fill(local, -1);
+		int count = 0;
+		for(int id : ids) {
+			if(local[this.edges.getSrc(id)] < 0) {
+				local[this.edges.getSrc(id)] = count++;
+			}
+			if(local[this.edges.getDest(id)] < 0) {
+				local[this.edges.getDest(id)] = count++;
+			}
+		}
+		UnionFind unionFind = new UnionFind(count);
+		for(int id : ids) {
+			unionFind.union(local[this.edges.getSrc(id)], local[this.edges.getDest(id)]);
+		}
+		//representatives of the pieces become label 0, all other vertices keep their order
+		int[] label = new int[count];
+		int labels = 1;
+		for(int v = 0; v < count; v++) {
+			label[v] = unionFind.getRepresentative(v) == v ? 0 : labels++;
+		}
+		if(src != null) {
+			for(int i = 0; i < ids.length; i++) {
+				src[i] = label[local[this.edges.getSrc(ids[i])]];
+				dest[i] = label[local[this.edges.getDest(ids[i])]];
+			}
+		}
+		return labels;
+	}
+
+	/**
+	 * Builds the subgraph of a group
+	 * @param group Index of the group
+	 * @return Subgraph sorted by weight, edge i of the subgraph is edge getEdges(group)[i] of the candidate graph
+	 */
+	public EdgeTable getEdgeTable(int group) {
+		int[] ids = this.groups[group];
+		int[] src = new int[ids.length];
+		int[] dest = new int[ids.length];
+		relabel(group, src, dest);
+		EdgeTable table = new EdgeTable(null, ids.length);
+		for(int i = 0; i < ids.length; i++) {
+			table.add(src[i], dest[i], this.edges.getWeight(ids[i]));
+		}
+		return table;
+	}
+
+	/**
+	 * @param group Index of the group
+	 * @return Crossing relation of the subgraph of the group
+	 */
+	public CrossingTable getCrossingTable(int group) {
+		return this.crossings.subTable(this.groups[group]);
+	}
+
+	/**
+	 * @param group Index of the group
+	 * @return Ids of the edges of the group in the candidate graph in ascending order
+	 */
+	public int[] getEdges(int group) {
+		return this.groups[group];
+	}
+
+	/**
+	 * @param group Index of the group
+	 * @return Number of vertices of the subgraph of the group
+	 */
+	public int getVertexCount(int group) {
+		return this.groupVertexCounts[group];
+	}
+
+	/**
+	 * @param id Id of an edge of the candidate graph
+	 * @return Index of the group of the edge
+	 */
+	public int getGroup(int id) {
+		return this.groupOf[id];
+	}
+
+	public int getGroupCount() {
+		return this.groups.length;
+	}
+
+	public int getBlockCount() {
+		return this.blockCount;
+	}
+
+	/**
+	 * @return true if the candidate graph is connected, otherwise it has no spanning tree and no groups
+	 */
+	public boolean isConnected() {
+		return this.connected;
+	}
+
+}
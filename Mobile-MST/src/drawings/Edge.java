@@ -8,8 +8,14 @@ public class Edge implements Comparable<Edge>{
 	private int dest;
 	private LineSegment position;
 	private double weight;
+	//swept area of the edge, NaN until it is computed
+	private double area = Double.NaN;
 	private int comparisons;
 	
+	//position in the candidate graph and its precomputed crossing relation, if any
+	private int id = -1;
+	private CrossingTable crossings;
+	
 	public Edge() {
 		
 	}
@@ -37,15 +43,28 @@ public class Edge implements Comparable<Edge>{
 	public Edge(Edge another) {
 		this.src = another.getSrc();
 		this.dest = another.getDest();
+		this.id = another.getId();
 		this.position = new LineSegment(another.getPosition());
 		this.weight = this.position.getStartingLength();
+		this.area = another.area;
 	}
 	
 	/**
 	 * Sets the swept area of an edge as its weight
 	 */
 	public void areaAsWeight() {
-		this.weight = this.position.coveredArea();
+		this.weight = getArea();
+	}
+	
+	/**
+	 * Returns the swept area of the edge, which is computed once and cached
+	 * @return Swept area of the edge
+	 */
+	public double getArea() {
+		if(Double.isNaN(this.area)) {
+			this.area = this.position.coveredArea();
+		}
+		return this.area;
 	}
 	
 	/**
@@ -95,11 +114,14 @@ public class Edge implements Comparable<Edge>{
 	}
 	
 	/**
-	 * Returns whether the argument crosses the edge
+	 * Returns whether the argument crosses the edge. Answers from the crossing table if both edges belong to the same one.
 	 * @param e2 Another edge
 	 * @return true if e2 is crossing this edge, false otherwise
 	 */
 	public boolean isCrossing(Edge e2) {
+		if(this.crossings != null && this.crossings == e2.crossings) {
+			return this.crossings.crosses(this.id, e2.id);
+		}
 		return this.position.isCrossing(e2.getPosition());
 	}
 	
@@ -141,6 +163,22 @@ public class Edge implements Comparable<Edge>{
 		return this.weight;
 	}
 	
+	public int getId() {
+		return this.id;
+	}
+	
+	public void setId(int id) {
+		this.id = id;
+	}
+	
+	public CrossingTable getCrossingTable() {
+		return this.crossings;
+	}
+	
+	public void setCrossingTable(CrossingTable crossings) {
+		this.crossings = crossings;
+	}
+	
 	public int getComparisons() {
 		return this.comparisons;
 	}
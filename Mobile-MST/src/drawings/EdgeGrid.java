@@ -0,0 +1,161 @@
+package drawings;
+
+import java.util.Arrays;
+
+/**
+ * Uniform grid over the bounding box of a pointset that indexes edges by the cells their bounding boxes cover. <br>
+ * Two edges can only cross if their bounding boxes intersect, so a crossing query only has to test the edges
+ * registered in the cells covered by the queried edge. Edges are compared in their initial positions.
+ */
+public class EdgeGrid {
+
+	private int xMin;
+	private int yMin;
+	private int cellWidth;
+	private int cellHeight;
+	private int columns;
+	private int rows;
+
+	//indices of the edges registered in each cell
+	private int[][] cells;
+	private int[] cellSizes;
+
+	private Edge[] edges;
+	private int edgeCount;
+
+	//marks edges already tested during the current query
+	private int[] visited;
+	private int stamp;
+
+	private int comparisons;
+
+	/**
+	 * Creates an empty grid with roughly one cell per point of the pointset
+	 * @param points Moving pointset whose initial positions span the grid
+	 */
+	public EdgeGrid(MovingPointSet2D points) {
+		int size = points.getsize();
+		int xMax = Integer.MIN_VALUE;
+		int yMax = Integer.MIN_VALUE;
+		this.xMin = Integer.MAX_VALUE;
+		this.yMin = Integer.MAX_VALUE;
+		for(int i = 0; i < size; i++) {
+			MovingPoint2D p = points.getPoint(i);
+			this.xMin = Math.min(this.xMin, p.getxCoord());
+			this.yMin = Math.min(this.yMin, p.getyCoord());
+			xMax = Math.max(xMax, p.getxCoord());
+			yMax = Math.max(yMax, p.getyCoord());
+		}
+		if(size == 0) {
+			this.xMin = 0;
+			this.yMin = 0;
+			xMax = 0;
+			yMax = 0;
+		}
+
+		int resolution = Math.max(1, (int) Math.ceil(Math.sqrt(size)));
+		this.cellWidth = Math.max(1, (int) Math.ceil((xMax - this.xMin + 1) / (double) resolution));
+		this.cellHeight = Math.max(1, (int) Math.ceil((yMax - this.yMin + 1) / (double) resolution));
+		this.columns = (xMax - this.xMin) / this.cellWidth + 1;
+		this.rows = (yMax - this.yMin) / this.cellHeight + 1;
+
+		this.cells = new int[this.columns * this.rows][];
+		this.cellSizes = new int[this.columns * this.rows];
+		this.edges = new Edge[Math.max(1, size)];
+		this.visited = new int[this.edges.length];
+		this.edgeCount = 0;
+		this.stamp = 0;
+	}
+
+	/**
+	 * Registers an edge in all cells covered by its bounding box
+	 * @param edge An edge between two points of the pointset
+	 */
+	public void add(Edge edge) {
+		if(this.edgeCount == this.edges.length) {
+			this.edges = Arrays.copyOf(this.edges, 2 * this.edges.length);
+			this.visited = Arrays.copyOf(this.visited, this.edges.length);
+		}
+		int index = this.edgeCount;
+		this.edges[index] = edge;
+		this.edgeCount++;
+
+		LineSegment line = edge.getPosition();
+		int colLow = column(Math.min(line.getStartPoint().getxCoord(), line.getEndPoint().getxCoord()));
+		int colHigh = column(Math.max(line.getStartPoint().getxCoord(), line.getEndPoint().getxCoord()));
+		int rowLow = row(Math.min(line.getStartPoint().getyCoord(), line.getEndPoint().getyCoord()));
+		int rowHigh = row(Math.max(line.getStartPoint().getyCoord(), line.getEndPoint().getyCoord()));
+
+		for(int r = rowLow; r <= rowHigh; r++) {
+			for(int c = colLow; c <= colHigh; c++) {
+				int cell = r * this.columns + c;
+				if(this.cells[cell] == null) {
+					this.cells[cell] = new int[4];
+				}
+				else if(this.cellSizes[cell] == this.cells[cell].length) {
+					this.cells[cell] = Arrays.copyOf(this.cells[cell], 2 * this.cellSizes[cell]);
+				}
+				this.cells[cell][this.cellSizes[cell]] = index;
+				this.cellSizes[cell]++;
+			}
+		}
+	}
+
+	/**
+	 * Returns true if the argument crosses at least one registered edge. Only edges sharing a cell with the argument are tested.
+	 * @param edge An edge between two points of the pointset
+	 * @return true if edge has at least one crossing with the registered edges, false otherwise
+	 */
+	public boolean isCrossing(Edge edge) {
+		this.comparisons = 0;
+		this.stamp++;
+		if(this.stamp == 0) {
+			Arrays.fill(this.visited, 0);
+			this.stamp = 1;
+		}
+
+		LineSegment line = edge.getPosition();
+		int colLow = column(Math.min(line.getStartPoint().getxCoord(), line.getEndPoint().getxCoord()));
+		int colHigh = column(Math.max(line.getStartPoint().getxCoord(), line.getEndPoint().getxCoord()));
+		int rowLow = row(Math.min(line.getStartPoint().getyCoord(), line.getEndPoint().getyCoord()));
+		int rowHigh = row(Math.max(line.getStartPoint().getyCoord(), line.getEndPoint().getyCoord()));
+
+		for(int r = rowLow; r <= rowHigh; r++) {
+			for(int c = colLow; c <= colHigh; c++) {
+				int cell = r * this.columns + c;
+				int[] entries = this.cells[cell];
+				for(int i = 0; i < this.cellSizes[cell]; i++) {
+					int index = entries[i];
+					if(this.visited[index] != this.stamp) {
+						this.visited[index] = this.stamp;
+						this.comparisons++;
+						if(edge.isCrossing(this.edges[index])) {
+							return true;
+						}
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	private int column(int x) {
+		return Math.min(this.columns - 1, Math.max(0, (x - this.xMin) / this.cellWidth));
+	}
+
+	private int row(int y) {
+		return Math.min(this.rows - 1, Math.max(0, (y - this.yMin) / this.cellHeight));
+	}
+
+	/**
+	 * @return Number of edges tested during the last crossing query
+	 */
+	public int getComparisons() {
+		return this.comparisons;
+	}
+
+	public int size() {
+		return this.edgeCount;
+	}
+
+}
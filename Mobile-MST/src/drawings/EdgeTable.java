@@ -0,0 +1,268 @@
+package drawings;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+
+import util.RadixSort;
+
+/**
+ * Compact edge list of a graph on a moving pointset that stores endpoints and weights in parallel primitive arrays. <br>
+ * Edges are addressed by their id, which is their position in the table. Edge objects are only created on demand,
+ * so candidate graphs with millions of edges fit into memory.
+ */
+public class EdgeTable {
+
+	//minimum number of edges for which sortByWeight uses the parallel radix sort
+	public static final int PARALLEL_THRESHOLD = 1 << 20;
+
+	private MovingPointSet2D vertices;
+	private int edgeCount;
+	private int[] src;
+	private int[] dest;
+	private double[] weight;
+	private boolean sorted;
+	private boolean readOnly;
+
+	/**
+	 * Creates an empty table
+	 * @param vertices Moving pointset the edges are drawn on, or null if the endpoints are no indices into a pointset
+	 * @param capacity Initial number of edges that can be stored
+	 */
+	public EdgeTable(MovingPointSet2D vertices, int capacity) {
+		this.vertices = vertices;
+		this.edgeCount = 0;
+		this.src = new int[Math.max(1, capacity)];
+		this.dest = new int[this.src.length];
+		this.weight = new double[this.src.length];
+		this.sorted = true;
+	}
+
+	/**
+	 * Creates a table containing all edges of a complete graph on the pointset
+	 * @param vertices Moving pointset
+	 * @throws IllegalArgumentException
+	 * @return Table of all edges, weighted by their euclidean length at t=0
+	 */
+	public static EdgeTable completeGraph(MovingPointSet2D vertices) {
+		int size = vertices.getsize();
+		EdgeTable table = new EdgeTable(vertices, pairCount(size));
+		for(int i = 0; i < size - 1; i++) {
+			MovingPoint2D p = vertices.getPoint(i);
+			for(int j = i+1; j < size; j++) {
+				table.add(i, j, length(p, vertices.getPoint(j)));
+			}
+		}
+		return table;
+	}
+
+	/**
+	 * Creates a table containing all edges of a complete graph on the pointset that do not violate the point criterion
+	 * @param vertices Moving pointset
+	 * @throws IllegalArgumentException
+	 * @return Table of all edges without point criterion violations, weighted by their euclidean length at t=0
+	 */
+	public static EdgeTable completeGraphSetminusPK(MovingPointSet2D vertices) {
+		int size = vertices.getsize();
+		EdgeTable table = new EdgeTable(vertices, Math.min(pairCount(size), 16 * size));
+		//the points do not move during the build, so the index is validated once
+		long[] index = vertices.yIndex();
+		for(int i = 0; i < size - 1; i++) {
+			MovingPoint2D p = vertices.getPoint(i);
+			for(int j = i+1; j < size; j++) {
+				if(!vertices.violatesPointCriterion(new LineSegment(p, vertices.getPoint(j)), index)) {
+					table.add(i, j, length(p, vertices.getPoint(j)));
+				}
+			}
+		}
+		return table;
+	}
+
+	private static int pairCount(int size) {
+		long pairs = (long) size * (size - 1) / 2;
+		if(pairs > Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException("Too many edges for an edge table on " + size + " points");
+		}
+		return (int) pairs;
+	}
+
+	private static double length(MovingPoint2D p1, MovingPoint2D p2) {
+		return MovingPoint2D.pointDistance(p1.getxCoord(), p1.getyCoord(), p2.getxCoord(), p2.getyCoord());
+	}
+
+	/**
+	 * Appends an edge to the table
+	 * @param src Index of the first endpoint
+	 * @param dest Index of the second endpoint
+	 * @param weight Weight of the edge
+	 * @throws IllegalStateException
+	 * @return Id of the new edge
+	 */
+	public int add(int src, int dest, double weight) {
+		if(this.readOnly) {
+			throw new IllegalStateException("Edge table is read-only");
+		}
+		if(this.edgeCount == this.src.length) {
+			int capacity = (int) Math.min(Integer.MAX_VALUE - 8, 2L * this.edgeCount);
+			this.src = Arrays.copyOf(this.src, capacity);
+			this.dest = Arrays.copyOf(this.dest, capacity);
+			this.weight = Arrays.copyOf(this.weight, capacity);
+		}
+		if(this.edgeCount > 0 && weight < this.weight[this.edgeCount - 1]) {
+			this.sorted = false;
+		}
+		this.src[this.edgeCount] = src;
+		this.dest[this.edgeCount] = dest;
+		this.weight[this.edgeCount] = weight;
+		return this.edgeCount++;
+	}
+
+	/**
+	 * Sorts the edges by ascending weight, edges of equal weight keep their relative order. Afterwards the id of an edge equals its rank. <br>
+	 * Tables with at least PARALLEL_THRESHOLD edges are sorted in parallel.
+	 * @throws IllegalStateException
+	 */
+	public void sortByWeight() {
+		sortByWeight(this.edgeCount >= PARALLEL_THRESHOLD);
+	}
+
+	/**
+	 * Sorts the edges by ascending weight with a radix sort, edges of equal weight keep their relative order. Afterwards the id of an edge equals its rank.
+	 * @param parallel Specifies if the sort uses all available cores
+	 * @throws IllegalStateException
+	 */
+	public void sortByWeight(boolean parallel) {
+		if(this.sorted) {
+			return;
+		}
+		if(this.readOnly) {
+			throw new IllegalStateException("Edge table is read-only");
+		}
+		int[] order;
+		if(parallel) {
+			order = RadixSort.parallelSortedOrder(this.weight, this.edgeCount);
+		}
+		else {
+			order = RadixSort.sortedOrder(this.weight, this.edgeCount);
+		}
+
+		int[] sortedSrc = new int[this.edgeCount];
+		int[] sortedDest = new int[this.edgeCount];
+		double[] sortedWeight = new double[this.edgeCount];
+		for(int i = 0; i < this.edgeCount; i++) {
+			sortedSrc[i] = this.src[order[i]];
+			sortedDest[i] = this.dest[order[i]];
+			sortedWeight[i] = this.weight[order[i]];
+		}
+		this.src = sortedSrc;
+		this.dest = sortedDest;
+		this.weight = sortedWeight;
+		this.sorted = true;
+	}
+
+	/**
+	 * Creates the edge object of an entry of the table
+	 * @param id Id of the edge
+	 * @throws IndexOutOfBoundsException
+	 * @throws IllegalStateException
+	 * @return Edge with the given id
+	 */
+	public Edge toEdge(int id) {
+		checkId(id);
+		if(this.vertices == null) {
+			throw new IllegalStateException("Edge table is not drawn on a pointset");
+		}
+		Edge edge = new Edge(this.src[id], this.dest[id], new LineSegment(this.vertices.getPoint(this.src[id]), this.vertices.getPoint(this.dest[id])), this.weight[id]);
+		edge.setId(id);
+		return edge;
+	}
+
+	/**
+	 * Creates the edge objects of all entries of the table
+	 * @return Array of all edges, ordered by id
+	 */
+	public Edge[] toEdges() {
+		Edge[] edges = new Edge[this.edgeCount];
+		for(int i = 0; i < this.edgeCount; i++) {
+			edges[i] = toEdge(i);
+		}
+		return edges;
+	}
+
+	/**
+	 * Creates a list of the edge objects of all entries of the table
+	 * @return List of all edges, ordered by id
+	 */
+	public LinkedList<Edge> toEdgeList() {
+		LinkedList<Edge> edgeList = new LinkedList<Edge>();
+		for(int i = 0; i < this.edgeCount; i++) {
+			edgeList.add(toEdge(i));
+		}
+		return edgeList;
+	}
+
+	/**
+	 * Replaces the weights of all edges by their swept area in a single pass over the table, without creating edge or line segment objects.
+	 * The table has to be sorted by weight again afterwards.
+	 * @throws IllegalStateException
+	 */
+	public void fillAreaWeights() {
+		if(this.readOnly) {
+			throw new IllegalStateException("Edge table is read-only");
+		}
+		if(this.vertices == null) {
+			throw new IllegalStateException("Edge table is not drawn on a pointset");
+		}
+		this.sorted = true;
+		for(int i = 0; i < this.edgeCount; i++) {
+			MovingPoint2D p = this.vertices.getPoint(this.src[i]);
+			MovingPoint2D q = this.vertices.getPoint(this.dest[i]);
+			this.weight[i] = LineSegment.coveredArea(p.getxCoord(), p.getyCoord(), p.getxMovement(), p.getyMovement(),
+					q.getxCoord(), q.getyCoord(), q.getxMovement(), q.getyMovement());
+			if(i > 0 && this.weight[i] < this.weight[i - 1]) {
+				this.sorted = false;
+			}
+		}
+	}
+
+	private void checkId(int id) {
+		if(id < 0 || id >= this.edgeCount) {
+			throw new IndexOutOfBoundsException("The specified id lies out of range for the edges contained in this table");
+		}
+	}
+
+	public int getSrc(int id) {
+		return this.src[id];
+	}
+
+	public int getDest(int id) {
+		return this.dest[id];
+	}
+
+	public double getWeight(int id) {
+		return this.weight[id];
+	}
+
+	public int size() {
+		return this.edgeCount;
+	}
+
+	public boolean isSorted() {
+		return this.sorted;
+	}
+	
+	/**
+	 * Prevents further changes to the table, so that it can be shared between graph drawings
+	 */
+	public void setReadOnly() {
+		this.readOnly = true;
+	}
+	
+	public boolean isReadOnly() {
+		return this.readOnly;
+	}
+
+	public MovingPointSet2D getVertices() {
+		return this.vertices;
+	}
+
+}
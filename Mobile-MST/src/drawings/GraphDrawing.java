@@ -5,13 +5,13 @@ import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 
-import javax.swing.JComponent;
-
+import util.Bitset;
 import util.UnionFind;
 
-public class GraphDrawing extends JComponent{
+public class GraphDrawing {
 	
 	private int size;
 	private MovingPointSet2D vertices;
@@ -22,11 +22,38 @@ public class GraphDrawing extends JComponent{
 	private LinkedList<Edge> additionalEdges;
 	private LinkedList<Edge> missingEdges;
 	
+	//crossing relation of the edge list, or of the candidate graph shared by the pointset after optimalSlow or branchAndBound
+	private CrossingTable crossings;
+	private boolean parallelCrossingTable;
+	private boolean sweepCrossingTable;
+	//weights of the candidate edges of the planar-tree algorithms
+	private boolean areaWeights;
+	
+	//union-find of the last algorithm run, reused by the next one
+	private UnionFind unionFind;
+	
+	//options of the planar MST search
+	private SearchOptions searchOptions = new SearchOptions();
+	private IncumbentListener incumbentListener;
+	
 	//statistical data
 	private int edgesVisitedGreedy;
 	private int edgesVisitedOptimalSlow;
 	private int edgesVisitedBranchAndBound;
 	private int comparisonsCrossingCriterion;
+	private double lagrangianBound = Double.NEGATIVE_INFINITY;
+	private double provenLowerBound;
+	private double optimalityGap;
+	private boolean provenOptimal;
+	private int fixedEdges;
+	private int removedEdges;
+	
+	/**
+	 * Callback that is notified about every improving tree of optimalSlow and branchAndBound
+	 */
+	public interface IncumbentListener {
+		void incumbentFound(LinkedList<Edge> tree, double weight);
+	}
 	
 	public GraphDrawing() {
 		this.edgeList = new LinkedList<Edge>();
@@ -95,35 +122,45 @@ public class GraphDrawing extends JComponent{
 	 * Adds all edges of a complete graph on the pointset to the edge list
 	 */
 	public void completeGraph() {
-		edgeList = new LinkedList<Edge>();
-		LineSegment line;
-		for(int i = 0; i < this.size - 1; i++) {
-			for(int j = i+1; j < this.size; j++) {
-				adjList[i].add(j);
-				adjList[j].add(i);
-				line = new LineSegment(vertices.getPoint(i), vertices.getPoint(j));
-				edgeList.add(new Edge(i, j, line));
-			}
-		}
+		this.useEdgeTable(EdgeTable.completeGraph(this.vertices));
 	}
 	
 	/**
 	 * Adds all edges of a complete graph on the pointset that do not violate the point criterion to the edge list
 	 */
 	public void completeGraphSetminusPK() {
-		edgeList = new LinkedList<Edge>();
-		LineSegment line;
-		Edge edge;
-		for(int i = 0; i < this.size - 1; i++) {
-			for(int j = i+1; j < this.size; j++) {
-				line = new LineSegment(vertices.getPoint(i), vertices.getPoint(j));
-				edge = new Edge(i, j, line);
-				if(!this.vertices.violatesPointCriterion(edge.getPosition())) {
-					adjList[i].add(j);
-					adjList[j].add(i);
-					edgeList.add(edge);
-				}
-			}
+		this.useEdgeTable(EdgeTable.completeGraphSetminusPK(this.vertices));
+	}
+	
+	/**
+	 * Replaces the edge list by the edges of an edge table
+	 * @param edges Edge table on the pointset of the graph drawing
+	 */
+	private void useEdgeTable(EdgeTable edges) {
+		this.edgeList = edges.toEdgeList();
+		for(int id = 0; id < edges.size(); id++) {
+			adjList[edges.getSrc(id)].add(edges.getDest(id));
+			adjList[edges.getDest(id)].add(edges.getSrc(id));
+		}
+	}
+	
+	/**
+	 * Precomputes the crossing relation of all edges in the edge list, so that crossing tests between them become table lookups. <br>
+	 * optimalSlow and branchAndBound do not need this, they use the crossing table of the candidate graph shared by the pointset.
+	 */
+	public void buildCrossingTable() {
+		Edge[] edges = this.edgeList.toArray(new Edge[this.edgeList.size()]);
+		for(int i = 0; i < edges.length; i++) {
+			edges[i].setId(i);
+		}
+		if(this.sweepCrossingTable) {
+			this.crossings = CrossingTable.fromSweep(edges);
+		}
+		else {
+			this.crossings = new CrossingTable(edges, this.parallelCrossingTable);
+		}
+		for(Edge edge : edges) {
+			edge.setCrossingTable(this.crossings);
 		}
 	}
 	
@@ -132,8 +169,7 @@ public class GraphDrawing extends JComponent{
 	 * @return Number of edges visited during computation
 	 */	
 	public int kruskal() {		
-		this.completeGraph();
-		return this.kruskalsAlgo(false);		
+		return this.kruskalsAlgo(this.vertices.getCompleteGraph(), false);		
 	}
 	
 	
@@ -142,8 +178,7 @@ public class GraphDrawing extends JComponent{
 	 * @return Number of edges visited during computation
 	 */
 	public int crossingStableMST() {		
-		this.completeGraphSetminusPK();
-		return this.kruskalsAlgo(false);
+		return this.kruskalsAlgo(this.candidateGraph(), false);
 	}
 	
 	/**
@@ -151,39 +186,52 @@ public class GraphDrawing extends JComponent{
 	 * @return Number of edges visited during computation
 	 */
 	public int movingKruskal() {		
-		this.completeGraphSetminusPK();
-		return this.kruskalsAlgo(true);		
+		return this.kruskalsAlgo(this.candidateGraph(), true);		
 	}
 	
 
 	/**
 	 * Uses Kruskal's algorithm to compute a euclidean minimum spanning tree on the initial position of the moving pointset
+	 * @param candidates Candidate edges of the spanning tree
 	 * @param checkForCrossings Specifies if planarity is enforced explicitly
 	 * @throws RuntimeException
 	 * @return Number of edges visited during computation
 	 */
-	private int kruskalsAlgo(boolean checkForCrossings) {
+	private int kruskalsAlgo(EdgeTable candidates, boolean checkForCrossings) {
 		
 		this.edgesVisitedGreedy = 0;		
 		//union-find
-		UnionFind parents = new UnionFind(this.size);
+		UnionFind parents = this.resetUnionFind();
 		//output
 		LinkedList<Edge> MST = new LinkedList<Edge>();
+		//spatial index over the accepted edges for the crossing criterion
+		EdgeGrid grid = null;
+		if(checkForCrossings) {
+			grid = new EdgeGrid(this.vertices);
+		}
 		
-		Collections.sort(this.edgeList);
+		candidates.sortByWeight();
 		
 		boolean success = false;
-		while(!edgeList.isEmpty()) {
-			Edge nextEdge = edgeList.removeFirst();
+		for(int id = 0; id < candidates.size(); id++) {
 			this.edgesVisitedGreedy += 1;
 			
-			int v = nextEdge.getSrc();
-			int w = nextEdge.getDest();
+			int v = candidates.getSrc(id);
+			int w = candidates.getDest(id);
+			
+			//edge objects are only created for candidates that do not close a cycle
+			if(parents.inSameSet(v, w)) {
+				continue;
+			}
+			Edge nextEdge = candidates.toEdge(id);
 			
-			//Assert nextEdge doesn't close cycle AND assert nextEdge is not crossing if specified by checkForCrossings 
-			if(!parents.inSameSet(v, w) && (!checkForCrossings || !isCrossing(nextEdge, MST))) {
+			//Assert nextEdge is not crossing if specified by checkForCrossings
+			if(!checkForCrossings || !isCrossing(nextEdge, grid)) {
 				MST.add(nextEdge);
 				parents.union(v, w);
+				if(checkForCrossings) {
+					grid.add(nextEdge);
+				}
 			}
 			if (MST.size() >= this.size - 1) {
 				success = true;
@@ -217,7 +265,7 @@ public class GraphDrawing extends JComponent{
 	 * @return Number of edges visited during computation
 	 */
 	public int optimalSlow() {
-		return recursiveMST(false);
+		return recursiveMST(false, null);
 	}
 	
 	
@@ -226,186 +274,129 @@ public class GraphDrawing extends JComponent{
 	 * @return Number of edges visited during computation
 	 */
 	public int branchAndBound() {
-		return recursiveMST(true);
+		return recursiveMST(true, null);
+	}
+	
+	
+	/**
+	 * Branch-and-bound algorithm to compute planar minimal spanning tree on the pointset, starting from a known planar spanning tree as incumbent.
+	 * The initial tree is kept unless a strictly lighter tree is found.
+	 * @param initialTree Planar spanning tree on the candidate graph of the pointset, e.g. computed by movingKruskal
+	 * @throws IllegalArgumentException
+	 * @return Number of edges visited during computation
+	 */
+	public int branchAndBound(LinkedList<Edge> initialTree) {
+		return recursiveMST(true, initialTree);
 	}
 	
 	
 	/**
-	 * Recursively computes a planar minimum spanning tree on a moving pointset
+	 * Computes a planar minimum spanning tree on a moving pointset by an exhaustive search
 	 * @param BABoptimized Specifies if branch-and-bound should be used for runtime optimization
+	 * @param initialTree Planar spanning tree the search starts from as incumbent, or null
+	 * @throws RuntimeException
 	 * @return Number of edges visited during computation
 	 */
-	private int recursiveMST(boolean BABoptimized) {
+	private int recursiveMST(boolean BABoptimized, LinkedList<Edge> initialTree) {
 
-		this.completeGraphSetminusPK();
-		
-		Collections.sort(this.edgeList);
-		this.edgesVisitedOptimalSlow = 0;
-		this.edgesVisitedBranchAndBound = 0;
-		this.comparisonsCrossingCriterion = 0;
+		EdgeTable candidates = this.candidateGraph();
+		this.crossings = this.candidateCrossings();
 		
-		LinkedList<Edge> currentCandidates = new LinkedList<Edge>();
-		for(Edge edge : this.edgeList) {
-			currentCandidates.add(edge);
+		PlanarMSTSearch search = new PlanarMSTSearch(candidates, this.crossings, this.size);
+		search.setBranchAndBound(BABoptimized);
+		search.setOptions(this.searchOptions);
+		if(initialTree != null) {
+			search.setInitialTree(candidateIds(candidates, initialTree));
+		}
+		IncumbentListener listener = this.incumbentListener;
+		if(listener != null) {
+			search.setIncumbentListener((tree, weight) -> {
+				LinkedList<Edge> treeEdges = new LinkedList<Edge>();
+				for(int id : tree) {
+					treeEdges.add(candidateEdge(candidates, id));
+				}
+				listener.incumbentFound(treeEdges, weight);
+			});
 		}
+		int[] MST = search.run();
 		
-		UnionFind parents = new UnionFind(this.size);
+		if(MST == null) {
+			this.edgeList = null;
+		}
+		else {
+			this.edgeList = new LinkedList<Edge>();
+			for(int id : MST) {
+				this.edgeList.add(candidateEdge(candidates, id));
+			}
+		}
 		
-		LinkedList<Edge> MST = new LinkedList<Edge>();
-		LinkedList<Edge> deletedEdges = new LinkedList<Edge>();
+		int visited = (int) Math.min(Integer.MAX_VALUE, search.getNodesVisited());
+		this.comparisonsCrossingCriterion = (int) Math.min(Integer.MAX_VALUE, search.getComparisonsCrossingCriterion());
+		this.lagrangianBound = search.getLagrangianBound();
+		this.provenLowerBound = search.getLowerBound();
+		this.optimalityGap = search.getGap();
+		this.provenOptimal = search.isProvenOptimal();
+		this.fixedEdges = search.getFixedEdges();
+		this.removedEdges = search.getRemovedEdges();
 		
 		//branch-and-bound algo
 		if(BABoptimized) {
-			MST = recursiveCallMST(MST, currentCandidates, parents, deletedEdges, Double.MAX_VALUE, true);
-			this.edgeList = MST;
-			
+			this.edgesVisitedBranchAndBound = visited;
 			return this.edgesVisitedBranchAndBound;
 		}
 		
 		//brute force algo
 		else {
-			MST = recursiveCallMST(MST, currentCandidates, parents, deletedEdges, Double.MAX_VALUE, false);
-			this.edgeList = MST;
-		
+			this.edgesVisitedOptimalSlow = visited;
 			return this.edgesVisitedOptimalSlow;
 		}
 	}
+
 	
+	/**
+	 * Creates the edge object of a candidate, which answers crossing tests with other candidates from the shared crossing table
+	 * @param candidates Candidate graph
+	 * @param id Id of the edge in the candidate graph
+	 * @return Edge with the given id
+	 */
+	private Edge candidateEdge(EdgeTable candidates, int id) {
+		Edge edge = candidates.toEdge(id);
+		edge.setCrossingTable(this.crossings);
+		return edge;
+	}
 	
 	/**
-	 * Recursive procedure to compute a planar minimum spanning tree on a moving pointset
-	 * @param MST Partial spanning tree as calculated in calling iteration
-	 * @param currentCandidates List of viable candidate edges in the recursive branch
-	 * @param unionFind Representation of connected components in the partial spanning tree
-	 * @param deletedEdges Edges that were fully explored in other recursion branches
-	 * @param lowerBound Weight of current minimal spanning tree for all explored recursion branches
-	 * @param BABoptimized Specifies if lower bound is used for branch-and-bound style optimization
-	 * @throws RuntimeException
-	 * @return Locally minimal spanning tree for this recursive branch or NULL if no viable solution exists
+	 * Looks up the ids of edges in a candidate graph. Edges created from the candidate graph carry their id, all others are looked up by their endpoints.
+	 * @param candidates Candidate graph
+	 * @param edges Edges on the pointset
+	 * @throws IllegalArgumentException
+	 * @return Ids of the edges in the same order
 	 */
-	private LinkedList<Edge> recursiveCallMST(LinkedList<Edge> MST, LinkedList<Edge> currentCandidates, UnionFind unionFind, LinkedList<Edge> deletedEdges, double lowerBound, boolean BABoptimized) {
-		//if ST is complete
-		if(MST.size() == this.size-1) {
-			return MST;
-		}
-		
-		// if not enough edges left
-		if(currentCandidates.size() < (this.size-1)-MST.size()) {
-			//System.out.println("Ran out of edges during recursion");
-			return null;
-		}
-		
-		if(BABoptimized) {
-			//prune recursions that can't beat the current optimum
-			double bestCaseCost = 0;
-			for (Edge edge : MST) {
-				bestCaseCost += edge.getWeight();
-			}
-			
-			for (int i = 0; i < (this.size-1)-MST.size(); i++) {
-				bestCaseCost += currentCandidates.get(i).getWeight();
-			}
-			
-			if(bestCaseCost >= lowerBound) {
-				return null;
-			}
-		}
-		
-		LinkedList<Edge> deleted = new LinkedList<Edge>();
-		deleted.addAll(deletedEdges);
-		
-		if(BABoptimized) {
-			this.edgesVisitedBranchAndBound += 1;
-		}
-		else {
-			this.edgesVisitedOptimalSlow += 1;
-		}
-		
-		Edge nextEdge = currentCandidates.removeFirst();
-		
-		int v = nextEdge.getSrc();
-		int w = nextEdge.getDest();
-		
-		if(!unionFind.inSameSet(v, w)) {
-			if(isCrossing(nextEdge, MST)) {
-				LinkedList<Edge> ST1 = new LinkedList<Edge>();
-				LinkedList<Edge> currentMST = new LinkedList<Edge>();
-				currentMST.addAll(MST);
-				
-				ST1 = recursiveCallMST(MST, currentCandidates, unionFind, deleted, lowerBound, BABoptimized);
-				
-				double weightST1 = 0;
-				if(ST1 == null) {
-					weightST1 = Double.MAX_VALUE;
-				}
-				else {					
-					for(Edge edge : ST1) {
-						weightST1 += edge.getWeight();
-					}
-				}
-				
-				if(BABoptimized) {
-					lowerBound = Math.min(lowerBound, weightST1);
-				}
-				
-				//calculate alternative spanning tree
-
-				//remove crossing edges from alternative MST containing the edge
-				LinkedList<Edge> ST2 = new LinkedList<Edge>();
-				ST2 = nextEdge.nonCrossingEdges(currentMST);
-				ST2.add(nextEdge);
-				deleted.addAll(nextEdge.crossingEdges(currentMST));
-				
-				//recalculate unionFind for alternative MST
-				UnionFind unionFind2 = new UnionFind(this.size);
-
-				for (Edge edge : ST2) {
-					v = edge.getSrc();
-					w = edge.getDest();
-					if(!unionFind2.inSameSet(v, w)) {
-						unionFind2.union(v, w);
-					}
-					else throw new RuntimeException("Something went horribly wrong");
-				}
-				
-				//recalculate viable candidate edges for alternative MST
-				LinkedList<Edge> candidates2 = new LinkedList<Edge>();
-				for(Edge edge : this.edgeList) {
-					if (!(ST2.contains(edge) || deleted.contains(edge))) {
-						//should be sorted
-						candidates2.add(edge);					
+	private static int[] candidateIds(EdgeTable candidates, LinkedList<Edge> edges) {
+		int[] ids = new int[edges.size()];
+		HashMap<Long, Integer> idsByEndpoints = null;
+		int i = 0;
+		for(Edge edge : edges) {
+			int v = Math.min(edge.getSrc(), edge.getDest());
+			int w = Math.max(edge.getSrc(), edge.getDest());
+			int id = edge.getId();
+			if(id < 0 || id >= candidates.size() || Math.min(candidates.getSrc(id), candidates.getDest(id)) != v || Math.max(candidates.getSrc(id), candidates.getDest(id)) != w) {
+				if(idsByEndpoints == null) {
+					idsByEndpoints = new HashMap<Long, Integer>();
+					for(int j = 0; j < candidates.size(); j++) {
+						long key = ((long) Math.min(candidates.getSrc(j), candidates.getDest(j)) << 32) | Math.max(candidates.getSrc(j), candidates.getDest(j));
+						idsByEndpoints.putIfAbsent(key, j);
 					}
 				}
-				
-				ST2 = recursiveCallMST(ST2, candidates2, unionFind2, deleted, lowerBound, BABoptimized);
-				
-				double weightST2 = 0;
-				
-				if(ST2 == null) {
-					weightST2 = Double.MAX_VALUE;
+				Integer candidate = idsByEndpoints.get(((long) v << 32) | w);
+				if(candidate == null) {
+					throw new IllegalArgumentException("Edge (" + v + ", " + w + ") is not part of the candidate graph");
 				}
-				else {
-					for(Edge edge : ST2) {
-						weightST2 += edge.getWeight();
-					}
-				}
-				
-				//choose more optimal spanning tree
-				if(weightST1 <= weightST2) {
-					MST = ST1;
-				}
-				else {
-					MST = ST2;
-				}
-				return MST;
+				id = candidate;
 			}
-
-			MST.add(nextEdge);
-			unionFind.union(v,w);
-			return recursiveCallMST(MST, currentCandidates, unionFind, deleted, lowerBound, BABoptimized);
+			ids[i++] = id;
 		}
-		
-		return recursiveCallMST(MST, currentCandidates, unionFind, deleted, lowerBound, BABoptimized);
+		return ids;
 	}
 
 	
@@ -437,14 +428,28 @@ public class GraphDrawing extends JComponent{
 	}
 	
 	/**
-	 * Returns true if the argument crosses an edge in the given edge list
+	 * Returns the union-find of the graph drawing with all vertices in groups of their own
+	 * @return Union-find over the vertices
+	 */
+	private UnionFind resetUnionFind() {
+		if(this.unionFind == null) {
+			this.unionFind = new UnionFind(this.size);
+		}
+		else {
+			this.unionFind.initialize(this.size);
+		}
+		return this.unionFind;
+	}
+	
+	/**
+	 * Returns true if the argument crosses an edge registered in the given spatial index
 	 * @param edge An edge
-	 * @param edgeList A list of edges
+	 * @param grid A spatial index of edges
 	 * @return
 	 */
-	private boolean isCrossing(Edge edge, LinkedList<Edge> edgeList) {
-		boolean isCrossing = edge.isCrossing(edgeList);
-		this.comparisonsCrossingCriterion += edge.getComparisons();
+	private boolean isCrossing(Edge edge, EdgeGrid grid) {
+		boolean isCrossing = grid.isCrossing(edge);
+		this.comparisonsCrossingCriterion += grid.getComparisons();
 		return isCrossing;
 	}
 	
@@ -456,26 +461,23 @@ public class GraphDrawing extends JComponent{
 		LinkedList<Edge> missing = new LinkedList<Edge>();
 		LinkedList<Edge> additional = new LinkedList<Edge>();
 		LinkedList<Edge> altEdgeList = graph2.getEdgeList();
-		boolean found = false;
+		//membership by the index of the endpoint pair, so every lookup takes constant time
+		int n = Math.max(this.size, graph2.getN());
+		Bitset edges = new Bitset((long) n * (n - 1) / 2);
+		Bitset altEdges = new Bitset(edges.getSize());
+		for(Edge edge : this.edgeList) {
+			edges.set(pairIndex(edge));
+		}
+		for(Edge edge : altEdgeList) {
+			altEdges.set(pairIndex(edge));
+		}
 		for (Edge edge : altEdgeList) {
-			found = false;
-			for(Edge edge2 : this.edgeList) {
-				if(edge.isIdentical(edge2)) {
-					found = true;
-				}
-			}
-			if(!found) {
+			if(!edges.get(pairIndex(edge))) {
 				missing.add(edge);
 			}
 		}
 		for (Edge edge : this.edgeList) {	
-			found = false;
-			for(Edge edge2 : altEdgeList) {
-				if(edge.isIdentical(edge2)) {
-					found = true;
-				}
-			}
-			if(!found) {
+			if(!altEdges.get(pairIndex(edge))) {
 				additional.add(edge);
 			}
 		}
@@ -484,6 +486,17 @@ public class GraphDrawing extends JComponent{
 		this.additionalEdges = additional;
 	}
 	
+	/**
+	 * Numbers the pairs of distinct vertices densely, independently of the orientation of the edge
+	 * @param edge An edge between distinct vertices
+	 * @return Index of the endpoint pair
+	 */
+	private static long pairIndex(Edge edge) {
+		long v = Math.min(edge.getSrc(), edge.getDest());
+		long w = Math.max(edge.getSrc(), edge.getDest());
+		return w * (w - 1) / 2 + v;
+	}
+	
 	/**
 	 * Returns true if an edge is contained whose endpoints stay coincident with the given points throughout their entire movement
 	 * @param a First potential end point
@@ -562,4 +575,127 @@ public class GraphDrawing extends JComponent{
 		return this.comparisonsCrossingCriterion;
 	}
 	
+	/**
+	 * @return Proven lower bound on the weight of a planar minimum spanning tree from the last run of optimalSlow or branchAndBound
+	 */
+	public double getProvenLowerBound() {
+		return this.provenLowerBound;
+	}
+	
+	/**
+	 * @return Relative gap between the computed tree and the proven lower bound of the last run of optimalSlow or branchAndBound
+	 */
+	public double getOptimalityGap() {
+		return this.optimalityGap;
+	}
+	
+	/**
+	 * @return true if the last run of optimalSlow or branchAndBound finished within its budget or closed the gap
+	 */
+	public boolean isProvenOptimal() {
+		return this.provenOptimal;
+	}
+	
+	/**
+	 * Sets the callback notified about every improving tree of optimalSlow and branchAndBound, which allows to follow searches limited by a budget
+	 * @param incumbentListener Callback, or null
+	 */
+	public void setIncumbentListener(IncumbentListener incumbentListener) {
+		this.incumbentListener = incumbentListener;
+	}
+	
+	/**
+	 * @return Lagrangian lower bound of the last branch-and-bound run, or Double.NEGATIVE_INFINITY if the Lagrangian bound was not used
+	 */
+	public double getLagrangianBound() {
+		return this.lagrangianBound;
+	}
+	
+	/**
+	 * @return Number of candidate edges the reduction fixed before the last run of optimalSlow or branchAndBound, 0 without reduction
+	 */
+	public int getFixedEdges() {
+		return this.fixedEdges;
+	}
+	
+	/**
+	 * @return Number of candidate edges the reduction removed before the last run of optimalSlow or branchAndBound, 0 without reduction
+	 */
+	public int getRemovedEdges() {
+		return this.removedEdges;
+	}
+	
+	public CrossingTable getCrossingTable() {
+		return this.crossings;
+	}
+	
+	/**
+	 * Counts the crossing pairs among all edges in the edge list by a plane sweep
+	 * @return Number of crossing pairs
+	 */
+	public long countCrossings() {
+		return CrossingSweep.countCrossings(this.edgeList.toArray(new Edge[this.edgeList.size()]));
+	}
+	
+	/**
+	 * Returns the shared candidate graph of the pointset with the selected weights
+	 * @return Read-only candidate graph sorted by weight
+	 */
+	private EdgeTable candidateGraph() {
+		return this.areaWeights ? this.vertices.getAreaCandidateGraph() : this.vertices.getCandidateGraph();
+	}
+	
+	/**
+	 * Returns the crossing table of the shared candidate graph with the selected weights
+	 * @return Crossing table shared by the pointset
+	 */
+	private CrossingTable candidateCrossings() {
+		if(this.areaWeights) {
+			return this.vertices.getAreaCandidateCrossings(this.parallelCrossingTable, this.sweepCrossingTable);
+		}
+		return this.vertices.getCandidateCrossings(this.parallelCrossingTable, this.sweepCrossingTable);
+	}
+	
+	/**
+	 * Specifies if crossingStableMST, movingKruskal, optimalSlow and branchAndBound weight the candidate edges by their swept area instead of their euclidean length at t=0
+	 * @param areaWeights Specifies if the swept area is used as weight
+	 */
+	public void setAreaWeights(boolean areaWeights) {
+		this.areaWeights = areaWeights;
+	}
+	
+	public boolean isAreaWeights() {
+		return this.areaWeights;
+	}
+	
+	/**
+	 * Specifies if crossing tables are computed by a plane sweep instead of pairwise tests. The pointset computes its shared table only once,
+	 * so this applies to optimalSlow and branchAndBound only if no other graph drawing on the pointset ran them before.
+	 * @param sweep Specifies if the crossing table is computed by a plane sweep
+	 */
+	public void setSweepCrossingTable(boolean sweep) {
+		this.sweepCrossingTable = sweep;
+	}
+	
+	public SearchOptions getSearchOptions() {
+		return this.searchOptions;
+	}
+	
+	/**
+	 * Sets the options of the planar MST search used by optimalSlow and branchAndBound
+	 * @param searchOptions Search options
+	 */
+	public void setSearchOptions(SearchOptions searchOptions) {
+		this.searchOptions = searchOptions;
+	}
+	
+	/**
+	 * Specifies if the pairwise tests of crossing tables run in parallel. The pointset computes its shared table only once,
+	 * so this applies to optimalSlow and branchAndBound only if no other graph drawing on the pointset ran them before.
+	 * @param parallel Specifies if the crossing table is computed in parallel
+	 */
+	public void setParallelCrossingTable(boolean parallel) {
+		this.parallelCrossingTable = parallel;
+	}
+	
 }
@@ -0,0 +1,27 @@
+package drawings;
+
+import java.awt.Graphics;
+
+import javax.swing.JComponent;
+
+public class GraphView extends JComponent {
+
+	private GraphDrawing graph;
+
+	/**
+	 * Wraps a graph drawing into a Swing component, so that the algorithms themselves never depend on Swing
+	 * @param graph A graph drawing
+	 */
+	public GraphView(GraphDrawing graph) {
+		this.graph = graph;
+	}
+
+	public void paint(Graphics g) {
+		this.graph.paint(g);
+	}
+
+	public GraphDrawing getGraph() {
+		return this.graph;
+	}
+
+}
@@ -0,0 +1,237 @@
+package drawings;
+
+import java.util.Arrays;
+
+import util.RadixSort;
+import util.UnionFind;
+
+/**
+ * Lagrangian relaxation of the planar minimum spanning tree problem on a candidate graph. <br>
+ * The constraint that two crossing edges are not both part of the tree is priced into the edge weights: every crossing pair carries a multiplier,
+ * which is added to the weight of both edges and subtracted once from the total. For any multipliers, the minimum spanning tree under the
+ * priced weights is a lower bound on every planar spanning tree, and Kruskal's algorithm computes it. The multipliers are optimized by
+ * subgradient steps towards a known planar spanning tree weight.
+ */
+public class LagrangianBound {
+
+	public static final int DEFAULT_ITERATIONS = 200;
+
+	//the step size is halved after this many iterations without improvement
+	private static final int PATIENCE = 10;
+
+	//relative safety margin against rounding errors in the priced weights
+	private static final double TOLERANCE = 1e-9;
+
+	private EdgeTable edges;
+	private CrossingTable crossings;
+	private int vertexCount;
+
+	//crossing pairs with their multipliers
+	private int[] pairA;
+	private int[] pairB;
+	private double[] multipliers;
+
+	//priced weights and order of the best multipliers
+	private double[] pricedWeights;
+	private int[] order;
+	private double pricedConstant;
+	private double bound;
+	private int iterations;
+
+	/**
+	 * Collects the crossing pairs of a candidate graph, all multipliers start at 0
+	 * @param edges Candidate graph sorted by weight
+	 * @param crossings Crossing relation of the candidate graph
+	 * @param vertexCount Number of vertices of the graph
+	 */
+	public LagrangianBound(EdgeTable edges, CrossingTable crossings, int vertexCount) {
+		this.edges = edges;
+		this.crossings = crossings;
+		this.vertexCount = vertexCount;
+
+		int pairs = 0;
+		for(int a = 0; a < edges.size(); a++) {
+			for(int b = crossings.nextCrossing(a, a + 1); b >= 0; b = crossings.nextCrossing(a, b + 1)) {
+				pairs++;
+			}
+		}
+		this.pairA = new int[pairs];
+		this.pairB = new int[pairs];
+		this.multipliers = new double[pairs];
+		int p = 0;
+		for(int a = 0; a < edges.size(); a++) {
+			for(int b = crossings.nextCrossing(a, a + 1); b >= 0; b = crossings.nextCrossing(a, b + 1)) {
+				this.pairA[p] = a;
+				this.pairB[p] = b;
+				p++;
+			}
+		}
+
+		this.pricedWeights = new double[edges.size()];
+		for(int i = 0; i < edges.size(); i++) {
+			this.pricedWeights[i] = edges.getWeight(i);
+		}
+		this.order = RadixSort.sortedOrder(this.pricedWeights, edges.size());
+		this.pricedConstant = 0;
+		this.bound = Double.NEGATIVE_INFINITY;
+	}
+
+	/**
+	 * Optimizes the multipliers by subgradient steps of Polyak's length, keeping the multipliers of the best bound
+	 * @param iterations Maximum number of subgradient steps
+	 * @param upperBound Weight of a planar spanning tree, or Double.MAX_VALUE to compute one greedily
+	 * @return Best lower bound found, or Double.POSITIVE_INFINITY if the candidate graph has no spanning tree
+	 */
+	public double optimize(int iterations, double upperBound) {
+		int size = this.edges.size();
+		if(upperBound == Double.MAX_VALUE) {
+			upperBound = greedyPlanarTreeWeight();
+		}
+		double[] weights = new double[size];
+		boolean[] inTree = new boolean[size];
+		double[] subgradient = new double[this.multipliers.length];
+		double[] lambda = this.multipliers.clone();
+		double scale = 2;
+		int stall = 0;
+		this.iterations = 0;
+
+		for(int k = 0; k < iterations; k++) {
+			this.iterations++;
+			double constant = price(lambda, weights);
+			int[] order = RadixSort.sortedOrder(weights, size);
+			double value = kruskal(order, weights, inTree) - constant;
+			if(value == Double.POSITIVE_INFINITY) {
+				this.bound = value;
+				return value;
+			}
+			if(value > this.bound) {
+				this.bound = value;
+				this.multipliers = lambda.clone();
+				this.pricedWeights = weights.clone();
+				this.order = order;
+				this.pricedConstant = constant;
+				stall = 0;
+			}
+			else if(++stall >= PATIENCE) {
+				scale /= 2;
+				stall = 0;
+			}
+
+			//a pair whose edges are both in the tree violates the planarity constraint
+			double norm = 0;
+			for(int p = 0; p < lambda.length; p++) {
+				subgradient[p] = (inTree[this.pairA[p]] ? 1 : 0) + (inTree[this.pairB[p]] ? 1 : 0) - 1;
+				if(lambda[p] > 0 || subgradient[p] > 0) {
+					norm += subgradient[p] * subgradient[p];
+				}
+			}
+			if(norm == 0 || upperBound - value <= TOLERANCE * Math.abs(upperBound) || scale < 1e-6) {
+				//the tree is planar and optimal for its multipliers, or the steps became too small to matter
+				break;
+			}
+			double step = scale * (upperBound - value) / norm;
+			for(int p = 0; p < lambda.length; p++) {
+				lambda[p] = Math.max(0, lambda[p] + step * subgradient[p]);
+			}
+		}
+		return this.bound;
+	}
+
+	/**
+	 * Computes the priced weights of all edges
+	 * @return Sum of all multipliers
+	 */
+	private double price(double[] lambda, double[] weights) {
+		for(int i = 0; i < weights.length; i++) {
+			weights[i] = this.edges.getWeight(i);
+		}
+		double constant = 0;
+		for(int p = 0; p < lambda.length; p++) {
+			weights[this.pairA[p]] += lambda[p];
+			weights[this.pairB[p]] += lambda[p];
+			constant += lambda[p];
+		}
+		return constant;
+	}
+
+	/**
+	 * Computes a minimum spanning tree under the given weights
+	 * @return Weight of the tree, or Double.POSITIVE_INFINITY if the edges do not span the graph
+	 */
+	private double kruskal(int[] order, double[] weights, boolean[] inTree) {
+		Arrays.fill(inTree, false);
+		UnionFind unionFind = new UnionFind(this.vertexCount);
+		double weight = 0;
+		int count = 0;
+		for(int i = 0; i < order.length && count < this.vertexCount - 1; i++) {
+			int id = order[i];
+			if(!unionFind.inSameSet(this.edges.getSrc(id), this.edges.getDest(id))) {
+				unionFind.union(this.edges.getSrc(id), this.edges.getDest(id));
+				inTree[id] = true;
+				weight += weights[id];
+				count++;
+			}
+		}
+		return count < this.vertexCount - 1 ? Double.POSITIVE_INFINITY : weight;
+	}
+
+	/**
+	 * Computes the weight of the tree Kruskal's algorithm builds when it skips all edges crossing the tree
+	 * @return Weight of the greedy planar spanning tree, or the total weight of all edges if it does not span the graph
+	 */
+	private double greedyPlanarTreeWeight() {
+		UnionFind unionFind = new UnionFind(this.vertexCount);
+		int[] tree = new int[Math.max(1, this.vertexCount - 1)];
+		int count = 0;
+		double weight = 0;
+		double total = 0;
+		for(int id = 0; id < this.edges.size(); id++) {
+			total += this.edges.getWeight(id);
+		}
+		//the candidate graph is sorted by weight
+		for(int id = 0; id < this.edges.size() && count < this.vertexCount - 1; id++) {
+			if(unionFind.inSameSet(this.edges.getSrc(id), this.edges.getDest(id))) {
+				continue;
+			}
+			boolean crossing = false;
+			for(int j = 0; j < count && !crossing; j++) {
+				crossing = this.crossings.crosses(id, tree[j]);
+			}
+			if(!crossing) {
+				unionFind.union(this.edges.getSrc(id), this.edges.getDest(id));
+				tree[count++] = id;
+				weight += this.edges.getWeight(id);
+			}
+		}
+		return count < this.vertexCount - 1 ? total : weight;
+	}
+
+	/**
+	 * Computes the bound of a search node from the best multipliers: the priced weight of the partial tree plus a minimum spanning completion
+	 * under the priced weights, minus the sum of all multipliers
+	 * @param tree Partial tree of the node
+	 * @param cursor Smallest id of the candidates of the node
+	 * @return Lower bound on the weight of the planar spanning trees reachable from the node, Double.POSITIVE_INFINITY if the candidates
+	 * cannot complete the tree
+	 */
+	public double nodeBound(PartialTree tree, int cursor) {
+		double bound = tree.pricedCompletion(cursor, this.order, this.pricedWeights) - this.pricedConstant;
+		return bound - TOLERANCE * Math.abs(bound);
+	}
+
+	/**
+	 * @return Best bound of the root, Double.NEGATIVE_INFINITY before optimize was called
+	 */
+	public double getBound() {
+		return this.bound;
+	}
+
+	public int getIterations() {
+		return this.iterations;
+	}
+
+	public int getPairCount() {
+		return this.pairA.length;
+	}
+
+}
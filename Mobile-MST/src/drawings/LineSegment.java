@@ -9,9 +9,7 @@ import java.awt.Stroke;
 import java.awt.geom.Point2D;
 import java.util.LinkedList;
 
-import javax.swing.JComponent;
-
-public class LineSegment extends JComponent{
+public class LineSegment {
 	
 	private MovingPoint2D startPoint;
 	private MovingPoint2D endPoint;
@@ -94,8 +92,8 @@ public class LineSegment extends JComponent{
 			return false;
 		}
 		else {
-			double halfPlaneBefore = Math.signum(startPoint.angle(this.endPoint, p));
-			double halfPlaneAfter = Math.signum(startPoint.angleAfterMoving(this.endPoint, p));
+			int halfPlaneBefore = startPoint.halfPlane(this.endPoint, p);
+			int halfPlaneAfter = startPoint.halfPlaneAfterMoving(this.endPoint, p);
 			if(halfPlaneBefore != halfPlaneAfter) {
 				return true;
 			}
@@ -105,93 +103,65 @@ public class LineSegment extends JComponent{
 	
 	/**
 	 * Calculates the swept area of a line segment whose endpoints move horizontally
+	 * @throws IllegalArgumentException
 	 * @return Swept area of the line segment
 	 */
-	public float coveredArea() {
-		
-		MovingPoint2D startPointMoved = new MovingPoint2D(startPoint.getxCoord() + startPoint.getxMovement(), startPoint.getyCoord() + startPoint.getyMovement(), 0, 0);
-		MovingPoint2D endPointMoved = new MovingPoint2D(endPoint.getxCoord() + endPoint.getxMovement(), endPoint.getyCoord() + endPoint.getyMovement(), 0, 0);
-		
-		
-		double a = MovingPoint2D.pointDistance(startPoint.getxCoord(), startPoint.getyCoord(), 												// start
-				startPointMoved.getxCoord(), startPointMoved.getyCoord());																	// start'
-
-		double b = MovingPoint2D.pointDistance(startPointMoved.getxCoord(), startPointMoved.getyCoord(), 									// start'
-				endPointMoved.getxCoord(), endPointMoved.getyCoord());																		// end'
-
-		double c = MovingPoint2D.pointDistance(endPointMoved.getxCoord(), endPointMoved.getyCoord(),										// end'
-				endPoint.getxCoord(), endPoint.getyCoord());																				// end
-
-		double d = MovingPoint2D.pointDistance(endPoint.getxCoord(), endPoint.getyCoord(), 													// end
-				startPoint.getxCoord(), startPoint.getyCoord());																			// start
-
-		double s;
-		
-		if(Math.signum(startPoint.getxMovement()) == 0 && Math.signum(endPoint.getxMovement()) == 0) {
-			return 0;
-		}
-		//Heron
-		else if (Math.signum(startPoint.getxMovement()) == 0) {
-			s = (b+c+d)/2.0;
-			return (float)Math.sqrt(s*(s-b)*(s-c)*(s-d));
-		}
-		//Heron
-		else if (Math.signum(endPoint.getxMovement()) == 0) {
-			s = (a+b+d)/2.0;
-			return (float)(Math.sqrt(s*(s-a)*(s-b)*(s-d)));
+	public double coveredArea() {
+		return coveredArea(startPoint.getxCoord(), startPoint.getyCoord(), startPoint.getxMovement(), startPoint.getyMovement(),
+				endPoint.getxCoord(), endPoint.getyCoord(), endPoint.getxMovement(), endPoint.getyMovement());
+	}
+	
+	/**
+	 * Calculates the swept area of a line segment whose endpoints move horizontally in closed form without allocating. <br>
+	 * The area is bounded by the quadrilateral (start, start', end', end) and given by the shoelace formula. If the initial and the final position
+	 * of the segment cross, the quadrilateral is self-intersecting and the area consists of two triangles meeting in the crossing. <br>
+	 * For movements dxs and dxe and height h this is h/2 * (|dxs| + |dxe|) if both endpoints move in the same direction
+	 * and h/2 * (dxs^2 + dxe^2) / (|dxs| + |dxe|) otherwise. This is not the swept area of other movements, so they are rejected.
+	 * @param xs x-coordinate of the start point
+	 * @param ys y-coordinate of the start point
+	 * @param dxs Horizontal movement of the start point
+	 * @param dys Vertical movement of the start point, has to be 0
+	 * @param xe x-coordinate of the end point
+	 * @param ye y-coordinate of the end point
+	 * @param dxe Horizontal movement of the end point
+	 * @param dye Vertical movement of the end point, has to be 0
+	 * @throws IllegalArgumentException
+	 * @return Swept area of the line segment
+	 */
+	public static double coveredArea(int xs, int ys, int dxs, int dys, int xe, int ye, int dxe, int dye) {
+		if(dys != 0 || dye != 0) {
+			throw new IllegalArgumentException("The swept area is only supported for horizontal movements");
 		}
+		long xs2 = (long) xs + dxs;
+		long ys2 = (long) ys + dys;
+		long xe2 = (long) xe + dxe;
+		long ye2 = (long) ye + dye;
 		
-		else if(Math.signum(startPoint.getxMovement()) == Math.signum(endPoint.getxMovement())) {
-			
-			boolean startBottom = startPoint.getyCoord() < endPoint.getyCoord();
-			boolean rightMoving = startPoint.getxMovement() > 0;
-			s = (a+b+c+d)/2.0;
-			double alpha;
-			double gamma;
-			
-			//endPoint is right-hand
-			if(startBottom ^ rightMoving) {
-				alpha = startPoint.angle(endPoint, startPointMoved);
-				gamma = endPointMoved.angle(startPointMoved, endPoint);
-			}
-			else {
-				alpha = startPoint.angle(startPointMoved, endPoint);
-				gamma = endPointMoved.angle(endPoint, startPointMoved);
-			}
-			//Bretschneider
-			return (float)Math.sqrt((s-a)*(s-b)*(s-c)*(s-d)-(((a*b*c*d)/2.0) * (1 + Math.cos(Math.toRadians(alpha + gamma)))));
+		//sides of the final position relative to the initial position and vice versa
+		long o1 = cross(xs, ys, xe, ye, xs2, ys2);
+		long o2 = cross(xs, ys, xe, ye, xe2, ye2);
+		long o3 = cross(xs2, ys2, xe2, ye2, xs, ys);
+		long o4 = cross(xs2, ys2, xe2, ye2, xe, ye);
+		if(Long.signum(o1) * Long.signum(o2) < 0 && Long.signum(o3) * Long.signum(o4) < 0) {
+			//the crossing divides the initial position at the ratio of the distances of its endpoints to the final position
+			double t = (double) o3 / (o3 - o4);
+			double xc = xs + t * (xe - xs);
+			double yc = ys + t * (ye - ys);
+			double area1 = Math.abs((xs2 - xs) * (yc - ys) - (ys2 - ys) * (xc - xs));
+			double area2 = Math.abs((xe2 - xe) * (yc - ye) - (ye2 - ye) * (xc - xe));
+			return (area1 + area2) / 2.0;
 		}
-		else {
-			LinearFunct g = new LinearFunct(startPoint.getxCoord(), startPoint.getyCoord(), endPoint.getxCoord(), endPoint.getyCoord());
-			LinearFunct gPrime = new LinearFunct(startPointMoved.getxCoord(), startPointMoved.getyCoord(), endPointMoved.getxCoord(), endPointMoved.getyCoord());
-			Point2D.Double crossing = g.getIntersection(gPrime);
-			
-			//First triangle (start, start', crossing)
-			double area1;
-			a = MovingPoint2D.pointDistance(startPoint.getxCoord(), startPoint.getyCoord(), 												//(start, start')
-					startPointMoved.getxCoord(), startPointMoved.getyCoord());
-			b = MovingPoint2D.pointDistance(startPointMoved.getxCoord(), startPointMoved.getyCoord(), 										// (start', crossing)
-					crossing.getX(), crossing.getY());
-			c = MovingPoint2D.pointDistance(crossing.getX(), crossing.getY(), 																// (crossing, start)
-					startPoint.getxCoord(), startPoint.getyCoord());
-			s = (a+b+c)/2.0;
-			//Heron
-			area1 = Math.sqrt(s*(s-a)*(s-b)*(s-c));
-			
-			//Second triangle (end, end', crossing)
-			double area2;
-			a = MovingPoint2D.pointDistance(endPoint.getxCoord(), endPoint.getyCoord(), 													//(end, end')
-					endPointMoved.getxCoord(), endPointMoved.getyCoord());
-			b = MovingPoint2D.pointDistance(endPointMoved.getxCoord(), endPointMoved.getyCoord(),											// (end', crossing)
-					crossing.getX(), crossing.getY());
-			c = MovingPoint2D.pointDistance(crossing.getX(), crossing.getY(), 																// (crossing, end)
-					endPoint.getxCoord(), endPoint.getyCoord());
-			s = (a+b+c)/2.0;
-			//Heron
-			area2 = Math.sqrt(s*(s-a)*(s-b)*(s-c));
-			return (float)(area1 + area2);
-		}
-			
+		
+		//shoelace
+		long twiceArea = (xs * ys2 - xs2 * ys) + (xs2 * ye2 - xe2 * ys2) + (xe2 * ye - (long) xe * ye2) + ((long) xe * ys - (long) xs * ye);
+		return Math.abs(twiceArea) / 2.0;
+	}
+	
+	/**
+	 * @return Cross product of the vectors from (x1, y1) to (x2, y2) and from (x1, y1) to (x3, y3)
+	 */
+	private static long cross(long x1, long y1, long x2, long y2, long x3, long y3) {
+		return (x2 - x1) * (y3 - y1) - (y2 - y1) * (x3 - x1);
 	}
 	
 	/**
@@ -251,7 +221,9 @@ public class LineSegment extends JComponent{
 	}
 	
 	/**
-	 * Determines if the line segment has an intersection with the argument line segment
+	 * Determines if the line segment has an intersection with the argument line segment. <br>
+	 * Segments that only touch in an endpoint are not crossing, collinear segments are crossing if they overlap. 
+	 * Uses exact integer orientation tests on the initial positions and allocates nothing.
 	 * @param l2 Another line segment
 	 * @return true if the line segments are crossing, false otherwise
 	 */
@@ -262,11 +234,16 @@ public class LineSegment extends JComponent{
 		MovingPoint2D e1 = this.getEndPoint();
 		MovingPoint2D e2 = l2.getEndPoint();
 		
-		LinearFunct g1 = new LinearFunct(s1.getxCoord(), s1.getyCoord(), e1.getxCoord(), e1.getyCoord());
-		LinearFunct g2 = new LinearFunct(s2.getxCoord(), s2.getyCoord(), e2.getxCoord(), e2.getyCoord());
+		//a segment of length 0 can only touch another segment
+		if (s1.startsEqualTo(e1) || s2.startsEqualTo(e2)) {
+			return false;
+		}
+		
+		int o1 = MovingPoint2D.orientation(s1.getxCoord(), s1.getyCoord(), e1.getxCoord(), e1.getyCoord(), s2.getxCoord(), s2.getyCoord());
+		int o2 = MovingPoint2D.orientation(s1.getxCoord(), s1.getyCoord(), e1.getxCoord(), e1.getyCoord(), e2.getxCoord(), e2.getyCoord());
 		
 		//if both line segments lie on one line
-		if (g1.isIdentical(g2)) {
+		if (o1 == 0 && o2 == 0) {
 			// if the line segments overlap
 			if((s1.compareTo(s2) <= 0 && e1.compareTo(s2) > 0) ||
 					(e1.compareTo(e2) >= 0 && s1.compareTo(e2) < 0) || 
@@ -277,21 +254,19 @@ public class LineSegment extends JComponent{
 				return false;
 			}
 		}
-	
-	//if the segments are not parallel and share an endpoint, they intersect only in this shared endpoint and are only considered touching
-	if(this.sharesEndpoint(l2)) {
-		return false;
-	}
-	
-	//if the segments are not parallel, find the intersection if one exists
-	Point2D.Double intersection = g1.getIntersection(g2);
-	if (intersection != null) {
-		if (this.isPointInArea(intersection) && l2.isPointInArea(intersection)) {
-			return true;
+		
+		//if the segments are not collinear and share an endpoint, they intersect only in this shared endpoint and are only considered touching
+		if(this.sharesEndpoint(l2)) {
+			return false;
 		}
-	}
-	
-		return false;
+		
+		//the segments cross if the endpoints of each segment lie strictly on different sides of the other segment
+		if (o1 * o2 >= 0) {
+			return false;
+		}
+		int o3 = MovingPoint2D.orientation(s2.getxCoord(), s2.getyCoord(), e2.getxCoord(), e2.getyCoord(), s1.getxCoord(), s1.getyCoord());
+		int o4 = MovingPoint2D.orientation(s2.getxCoord(), s2.getyCoord(), e2.getxCoord(), e2.getyCoord(), e1.getxCoord(), e1.getyCoord());
+		return o3 * o4 < 0;
 	}
 	
 	/**
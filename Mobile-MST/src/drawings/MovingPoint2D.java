@@ -85,6 +85,63 @@ public class MovingPoint2D implements Comparable{
 		return angle;
 	}
 	
+	/**
+	 * Determines the half-plane of p2 with respect to the ray from the point through p1 before their movement. <br>
+	 * Computed exactly on the integer coordinates, yields the sign of angle(p1, p2).
+	 * @param p1 First other point
+	 * @param p2 Second other point
+	 * @return Sign of the angle between p1 and p2, which is 0 if p2 lies on the ray
+	 */
+	public int halfPlane(MovingPoint2D p1, MovingPoint2D p2) {
+		return halfPlane(this.xCoord - p1.getxCoord(), this.yCoord - p1.getyCoord(), this.xCoord - p2.getxCoord(), this.yCoord - p2.getyCoord());
+	}
+	
+	/**
+	 * Determines the half-plane of p2 with respect to the ray from the point through p1 after their movement. <br>
+	 * Computed exactly on the integer coordinates, yields the sign of angleAfterMoving(p1, p2).
+	 * @param p1 First other point
+	 * @param p2 Second other point
+	 * @return Sign of the angle between p1 and p2, which is 0 if p2 lies on the ray
+	 */
+	public int halfPlaneAfterMoving(MovingPoint2D p1, MovingPoint2D p2) {
+		return halfPlane((this.xCoord + this.xMovement) - (p1.getxCoord() + p1.getxMovement()),
+				(this.yCoord + this.yMovement) - (p1.getyCoord() + p1.getyMovement()),
+				(this.xCoord + this.xMovement) - (p2.getxCoord() + p2.getxMovement()),
+				(this.yCoord + this.yMovement) - (p2.getyCoord() + p2.getyMovement()));
+	}
+	
+	private static int halfPlane(long dxa, long dya, long dxb, long dyb) {
+		long det = dxa*dyb - dya*dxb;
+		if(det != 0) {
+			return Long.signum(det);
+		}
+		//collinear points, the angle is 180 degrees if p1 and p2 lie on opposite sides of the point
+		//the floating-point computation in angle() also yields 180 degrees if the dot product evaluates to -0.0
+		long dot = (dxa*dxb) + (dya*dyb);
+		if(dot > 0 || (dot == 0 && !(isNegativeZero(dxa, dxb) && isNegativeZero(dya, dyb)))) {
+			return 0;
+		}
+		//and -180 degrees if the determinant evaluates to -0.0
+		return isNegativeZero(dxa, dyb) && !isNegativeZero(dya, dxb) ? -1 : 1;
+	}
+	
+	/**
+	 * Determines if the floating-point product of two integers evaluates to -0.0
+	 */
+	private static boolean isNegativeZero(long a, long b) {
+		return (a == 0 && b < 0) || (a < 0 && b == 0);
+	}
+	
+	/**
+	 * Determines if the point and two other moving points are collinear before their movement
+	 * @param p1 First other point
+	 * @param p2 Second other point
+	 * @return True if the three points lie on a common line, false otherwise
+	 */
+	public boolean isCollinear(MovingPoint2D p1, MovingPoint2D p2) {
+		return orientation(this.xCoord, this.yCoord, p1.getxCoord(), p1.getyCoord(), p2.getxCoord(), p2.getyCoord()) == 0;
+	}
+	
 	/**
 	 * Computes the euclidean distance between two non-moving points given their position
 	 * @param x1 x-coordinate of first point
@@ -125,6 +182,22 @@ public class MovingPoint2D implements Comparable{
 		                        Math.atan2(x3 - x1, y3 - y1));
 		}
 	
+	/**
+	 * Computes the orientation of three points given their coordinates as the sign of the cross product (p2 - p1) x (p3 - p1). <br>
+	 * The computation is exact for coordinates of magnitude below 2^30.
+	 * @param x1 x-coordinate of first point
+	 * @param y1 y-coordinate of first point
+	 * @param x2 x-coordinate of second point
+	 * @param y2 y-coordinate of second point
+	 * @param x3 x-coordinate of third point
+	 * @param y3 y-coordinate of third point
+	 * @return 1 or -1 depending on the side of the line through the first and second point the third point lies on, 0 if the points are collinear
+	 */
+	public static int orientation(int x1, int y1, int x2, int y2, int x3, int y3) {
+		long det = (long)(x2 - x1) * (long)(y3 - y1) - (long)(y2 - y1) * (long)(x3 - x1);
+		return Long.signum(det);
+	}
+	
 	
 	public int getxCoord() {
 		return xCoord;
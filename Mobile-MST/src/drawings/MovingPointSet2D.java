@@ -10,9 +10,7 @@ import java.util.LinkedList;
 import java.util.Random;
 import java.util.stream.IntStream;
 
-import javax.swing.JComponent;
-
-public class MovingPointSet2D extends JComponent{
+public class MovingPointSet2D {
 	
 	//should be an even number
 	static final int pointRad = 2*2;
@@ -32,6 +30,18 @@ public class MovingPointSet2D extends JComponent{
 	private int size;
 	private MovingPoint2D[] points;
 	
+	//initial y-coordinates of the points in the high and their indices in the low 32 bits, sorted, null until it is needed
+	private volatile long[] yIndex;
+	
+	//candidate graphs shared by all algorithms on this pointset, valid as long as the points match the snapshot
+	private EdgeTable completeGraph;
+	private EdgeTable candidateGraph;
+	private EdgeTable areaCandidateGraph;
+	//crossing relations of the cached candidate graphs, edges are addressed by their id in the respective graph
+	private CrossingTable candidateCrossings;
+	private CrossingTable areaCandidateCrossings;
+	private int[] snapshot;
+	
 	public MovingPointSet2D() {
 		this.size = 0;
 	}
@@ -79,6 +89,7 @@ public class MovingPointSet2D extends JComponent{
 	 * @param random Randomness generator
 	 */
 	public void randomizeMovingPointSet(Random random) {
+		this.discardCaches();
 		for(int i = 0; i < points.length; i++) {
 			points[i] = new MovingPoint2D();
 			points[i].randomizePoint(xLeftBound, xRightBound, yLowerBound, yUpperBound, dxLower, dxUpper, dyLower, dyUpper, random);
@@ -97,6 +108,7 @@ public class MovingPointSet2D extends JComponent{
 		newSet[this.size] = p;
 		this.size += 1;
 		this.points = newSet;
+		this.discardCaches();
 	}
 	
 	
@@ -105,6 +117,7 @@ public class MovingPointSet2D extends JComponent{
 	 * @param random Randomness generator
 	 */
 	public void enforceGeneralPosition(Random random) {
+		this.discardCaches();
 		for (int i = 0; i < points.length-2; i++) {
 			for (int j = i+1; j < points.length-1; j++) {
 				//enforce unique y-values
@@ -121,8 +134,7 @@ public class MovingPointSet2D extends JComponent{
 						i = -1;
 						break;
 					}
-					double angle = points[i].angle(points[j], points[k]);
-					if(angle == 0 || angle == 180 || angle == -180) {
+					if(points[i].isCollinear(points[j], points[k])) {
 						points[k].randomizePoint(xLeftBound, xRightBound, yLowerBound, yUpperBound, dxLower, dxUpper, dyLower, dyUpper, random);
 						i = -1;
 						break;
@@ -176,6 +188,7 @@ public class MovingPointSet2D extends JComponent{
 		
 		this.points = evilSet.getPoints();
 		this.size = evilSet.getsize();
+		this.discardCaches();
 	}
 	
 	/**
@@ -194,6 +207,7 @@ public class MovingPointSet2D extends JComponent{
 			newSet[counter + i] = this.points[i];
 		}
 		this.points = newSet;
+		this.discardCaches();
 		
 	}
 	
@@ -226,26 +240,181 @@ public class MovingPointSet2D extends JComponent{
 	}
 	
 	/**
-	 * Determines if any point of the pointset crosses a given line segment
+	 * Determines if any point of the pointset crosses a given line segment. Only the points within the y-range of the line segment are examined.
 	 * @param line Line Segment with moving endpoints
 	 * @return True if at least one moving point crosses the line segment, false otherwise
 	 */
 	public boolean violatesPointCriterion(LineSegment line) {
-		for(int i = 0; i < this.size; i++) {
-			if (points[i].compareTo(line.getStartPoint()) != 0 && points[i].compareTo(line.getEndPoint()) != 0) {
-				if(line.violatesPointCriterion(points[i])) {
-					return true;
-				}
+		return violatesPointCriterion(line, yIndex());
+	}
+	
+	/**
+	 * Determines if any point of the pointset crosses a given line segment, for many queries on an unchanged pointset
+	 * @param line Line Segment with moving endpoints
+	 * @param index Index of the points returned by yIndex since which no point was moved
+	 * @return True if at least one moving point crosses the line segment, false otherwise
+	 */
+	boolean violatesPointCriterion(LineSegment line, long[] index) {
+		//points outside the y-range of the line segment cannot violate the point criterion
+		int yLow = Math.min(line.getStartPoint().getyCoord(), line.getEndPoint().getyCoord());
+		int yHigh = Math.max(line.getStartPoint().getyCoord(), line.getEndPoint().getyCoord());
+		int position = Arrays.binarySearch(index, (long) yLow << 32);
+		if(position < 0) {
+			position = -position - 1;
+		}
+		for(int i = position; i < index.length && (int) (index[i] >> 32) <= yHigh; i++) {
+			if(violatesPointCriterion(line, points[(int) index[i]])) {
+				return true;
 			}
 		}
 		return false;
 	}
 	
+	private static boolean violatesPointCriterion(LineSegment line, MovingPoint2D p) {
+		return p.compareTo(line.getStartPoint()) != 0 && p.compareTo(line.getEndPoint()) != 0 && line.violatesPointCriterion(p);
+	}
+	
+	/**
+	 * Returns the index of the points by their initial y-coordinate. It is built on demand and built again if a point was moved through its own setters since.
+	 * @return Sorted keys of all points holding the initial y-coordinate in the high and the index of the point in the low 32 bits
+	 */
+	long[] yIndex() {
+		long[] index = this.yIndex;
+		if(index != null && index.length == this.size) {
+			boolean valid = true;
+			for(long key : index) {
+				if(points[(int) key].getyCoord() != (int) (key >> 32)) {
+					valid = false;
+					break;
+				}
+			}
+			if(valid) {
+				return index;
+			}
+		}
+		index = new long[this.size];
+		for(int i = 0; i < this.size; i++) {
+			index[i] = ((long) points[i].getyCoord() << 32) | i;
+		}
+		Arrays.sort(index);
+		this.yIndex = index;
+		return index;
+	}
+	
+	/**
+	 * Returns the complete graph on the pointset. It is computed once and shared by all callers until the pointset changes.
+	 * @return Read-only table of all edges, sorted by weight
+	 */
+	public synchronized EdgeTable getCompleteGraph() {
+		validateCaches();
+		if(this.completeGraph == null) {
+			this.completeGraph = EdgeTable.completeGraph(this);
+			this.completeGraph.sortByWeight();
+			this.completeGraph.setReadOnly();
+		}
+		return this.completeGraph;
+	}
+	
+	/**
+	 * Returns the complete graph on the pointset without the edges violating the point criterion. It is computed once and shared by all callers until the pointset changes.
+	 * @return Read-only table of all edges without point criterion violations, sorted by weight
+	 */
+	public synchronized EdgeTable getCandidateGraph() {
+		validateCaches();
+		if(this.candidateGraph == null) {
+			this.candidateGraph = EdgeTable.completeGraphSetminusPK(this);
+			this.candidateGraph.sortByWeight();
+			this.candidateGraph.setReadOnly();
+		}
+		return this.candidateGraph;
+	}
+	
+	/**
+	 * Returns the candidate graph weighted by the swept area of the edges. It is computed once and shared by all callers until the pointset changes.
+	 * @return Read-only table of all edges without point criterion violations, sorted by swept area
+	 */
+	public synchronized EdgeTable getAreaCandidateGraph() {
+		validateCaches();
+		if(this.areaCandidateGraph == null) {
+			this.areaCandidateGraph = EdgeTable.completeGraphSetminusPK(this);
+			this.areaCandidateGraph.fillAreaWeights();
+			this.areaCandidateGraph.sortByWeight();
+			this.areaCandidateGraph.setReadOnly();
+		}
+		return this.areaCandidateGraph;
+	}
+	
+	/**
+	 * Returns the crossing relation of the candidate graph. It is computed once and shared by all callers until the pointset changes,
+	 * the arguments only select how the first caller computes it.
+	 * @param parallel Specifies if the pairwise tests run in parallel
+	 * @param sweep Specifies if the crossings are computed by a plane sweep instead of pairwise tests
+	 * @return Crossing table of the edges of getCandidateGraph
+	 */
+	public synchronized CrossingTable getCandidateCrossings(boolean parallel, boolean sweep) {
+		EdgeTable candidates = getCandidateGraph();
+		if(this.candidateCrossings == null) {
+			this.candidateCrossings = crossingTable(candidates, parallel, sweep);
+		}
+		return this.candidateCrossings;
+	}
+	
+	/**
+	 * Returns the crossing relation of the candidate graph weighted by swept area. It is computed once and shared by all callers until the pointset changes,
+	 * the arguments only select how the first caller computes it.
+	 * @param parallel Specifies if the pairwise tests run in parallel
+	 * @param sweep Specifies if the crossings are computed by a plane sweep instead of pairwise tests
+	 * @return Crossing table of the edges of getAreaCandidateGraph
+	 */
+	public synchronized CrossingTable getAreaCandidateCrossings(boolean parallel, boolean sweep) {
+		EdgeTable candidates = getAreaCandidateGraph();
+		if(this.areaCandidateCrossings == null) {
+			this.areaCandidateCrossings = crossingTable(candidates, parallel, sweep);
+		}
+		return this.areaCandidateCrossings;
+	}
+	
+	private static CrossingTable crossingTable(EdgeTable candidates, boolean parallel, boolean sweep) {
+		Edge[] edges = candidates.toEdges();
+		if(sweep) {
+			return CrossingTable.fromSweep(edges);
+		}
+		return new CrossingTable(edges, parallel);
+	}
+	
+	/**
+	 * Discards the cached candidate graphs and crossing tables if a point was moved through its own setters since they were computed
+	 */
+	private void validateCaches() {
+		int[] current = new int[4 * this.size];
+		for(int i = 0; i < this.size; i++) {
+			current[4*i] = points[i].getxCoord();
+			current[4*i + 1] = points[i].getyCoord();
+			current[4*i + 2] = points[i].getxMovement();
+			current[4*i + 3] = points[i].getyMovement();
+		}
+		if(!Arrays.equals(current, this.snapshot)) {
+			this.discardCaches();
+			this.snapshot = current;
+		}
+	}
+	
+	private void discardCaches() {
+		this.yIndex = null;
+		this.completeGraph = null;
+		this.candidateGraph = null;
+		this.areaCandidateGraph = null;
+		this.candidateCrossings = null;
+		this.areaCandidateCrossings = null;
+		this.snapshot = null;
+	}
+	
 	/**
 	 * Sorts the contained points by their y-axis position
 	 */
 	public void sortY() {
 		Arrays.sort(this.points);
+		this.discardCaches();
 		}
 	
 	/**
@@ -269,6 +438,7 @@ public class MovingPointSet2D extends JComponent{
 	public void setSize(int size) {
 		this.size = size;
 		this.points = new MovingPoint2D[size];
+		this.discardCaches();
 	}
 
 	public int getxLeftBound() {
@@ -311,6 +481,7 @@ public class MovingPointSet2D extends JComponent{
 	public void setPoints(MovingPoint2D[] points) {
 		this.points = points;
 		this.size = points.length;
+		this.discardCaches();
 	}
 
 	
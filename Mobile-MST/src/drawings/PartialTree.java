@@ -0,0 +1,432 @@
+package drawings;
+
+import java.util.Arrays;
+
+import util.Bitset;
+import util.UnionFind;
+
+/**
+ * Undoable state of the planar minimum spanning tree search on a candidate graph sorted by weight. <br>
+ * Holds the partial spanning tree, the edges deleted because they cross an edge taken in an enclosing branch, and the union-find
+ * of the tree. Every change is recorded on a trail, so that leaving a branch costs about as much as the change made when entering it. <br>
+ * Tree membership and deletions are bitsets over the ids, so the candidates are found 64 edges at a time.
+ * The candidates of a search node are all edges at or after a cursor that are neither in the tree nor deleted.
+ * Edges are addressed by their id, which equals their rank in the candidate graph.
+ */
+public class PartialTree {
+
+	private EdgeTable edges;
+	private CrossingTable crossings;
+	private int vertexCount;
+
+	//the current tree is the segment [treeBase, treeTop) of the stack, alternative branches open a new segment on top of it
+	private int[] tree;
+	private int treeBase;
+	private int treeTop;
+	private Bitset inTree;
+
+	private Bitset deleted;
+	private int[] deletedTrail;
+	private int deletedCount;
+
+	//saved treeBase, treeTop and deletedCount of every open alternative branch
+	private int[] branches;
+	private int branchCount;
+
+	//zobrist hash of the tree and the deleted edges, with the keys of edge id at 2*id for the tree and 2*id+1 for deletion
+	private long[] zobristKeys;
+	private long hash;
+	private long[] branchHashes;
+
+	private UnionFind unionFind;
+	private UnionFind completionFind;
+	private int comparisons;
+
+	/**
+	 * Creates an empty partial tree
+	 * @param edges Candidate graph sorted by weight
+	 * @param crossings Crossing relation of the candidate graph
+	 * @param vertexCount Number of vertices of the graph
+	 */
+	public PartialTree(EdgeTable edges, CrossingTable crossings, int vertexCount) {
+		this.edges = edges;
+		this.crossings = crossings;
+		this.vertexCount = vertexCount;
+		this.tree = new int[Math.max(1, vertexCount)];
+		this.inTree = new Bitset(edges.size());
+		this.deleted = new Bitset(edges.size());
+		this.deletedTrail = new int[edges.size()];
+		this.branches = new int[3 * 4];
+		this.branchHashes = new long[4];
+		this.unionFind = new UnionFind(vertexCount);
+		this.completionFind = new UnionFind(vertexCount);
+	}
+
+	/**
+	 * Returns the first candidate at or after the cursor
+	 * @param cursor Smallest id to consider
+	 * @return Id of the candidate or -1 if there is none
+	 */
+	public int nextCandidate(int cursor) {
+		if(cursor >= this.edges.size()) {
+			return -1;
+		}
+		long[] inTreeWords = this.inTree.getWords();
+		long[] deletedWords = this.deleted.getWords();
+		int k = cursor >>> 6;
+		//the candidates of a word are the edges neither in the tree nor deleted
+		long word = ~(inTreeWords[k] | deletedWords[k]) & (-1L << cursor);
+		while(word == 0) {
+			if(++k == inTreeWords.length) {
+				return -1;
+			}
+			word = ~(inTreeWords[k] | deletedWords[k]);
+		}
+		int id = (k << 6) + Long.numberOfTrailingZeros(word);
+		return id < this.edges.size() ? id : -1;
+	}
+
+	/**
+	 * Adds the weights of the cheapest candidates to a partial sum, in ascending order
+	 * @param sum Partial sum
+	 * @param cursor Smallest id to consider
+	 * @param number Number of candidates to add
+	 * @return Sum including the weights of the candidates
+	 */
+	public double addCheapestCandidates(double sum, int cursor, int number) {
+		for(int id = nextCandidate(cursor); number > 0 && id >= 0; id = nextCandidate(id + 1)) {
+			sum += this.edges.getWeight(id);
+			number--;
+		}
+		return sum;
+	}
+
+	/**
+	 * Computes a minimum spanning completion of the partial tree with Kruskal's algorithm on the candidates at or after the cursor, ignoring crossings
+	 * @param cursor Smallest id to consider
+	 * @param completion Array receiving the ids of the completion in ascending order, needs room for the missing edges of the tree
+	 * @return Number of edges of the completion, less than the number of missing edges if the candidates do not span the graph
+	 */
+	public int computeCompletion(int cursor, int[] completion) {
+		int missing = (this.vertexCount-1) - size();
+		this.completionFind.reset();
+		for(int i = this.treeBase; i < this.treeTop; i++) {
+			this.completionFind.union(this.edges.getSrc(this.tree[i]), this.edges.getDest(this.tree[i]));
+		}
+		int count = 0;
+		for(int id = nextCandidate(cursor); count < missing && id >= 0; id = nextCandidate(id + 1)) {
+			int v = this.edges.getSrc(id);
+			int w = this.edges.getDest(id);
+			if(!this.completionFind.inSameSet(v, w)) {
+				this.completionFind.union(v, w);
+				completion[count++] = id;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Computes the weight of the partial tree plus a minimum spanning completion on the candidates at or after the cursor, ignoring crossings,
+	 * under weights other than those of the candidate graph
+	 * @param cursor Smallest id to consider
+	 * @param order Ids of all edges by ascending weight
+	 * @param weights Weights of all edges by id
+	 * @return Weight of the completed tree, or Double.POSITIVE_INFINITY if the candidates do not span the graph
+	 */
+	public double pricedCompletion(int cursor, int[] order, double[] weights) {
+		int missing = (this.vertexCount-1) - size();
+		double weight = 0;
+		this.completionFind.reset();
+		for(int i = this.treeBase; i < this.treeTop; i++) {
+			this.completionFind.union(this.edges.getSrc(this.tree[i]), this.edges.getDest(this.tree[i]));
+			weight += weights[this.tree[i]];
+		}
+		for(int i = 0; missing > 0 && i < order.length; i++) {
+			int id = order[i];
+			if(id < cursor || this.inTree.get(id) || this.deleted.get(id)) {
+				continue;
+			}
+			int v = this.edges.getSrc(id);
+			int w = this.edges.getDest(id);
+			if(!this.completionFind.inSameSet(v, w)) {
+				this.completionFind.union(v, w);
+				weight += weights[id];
+				missing--;
+			}
+		}
+		return missing > 0 ? Double.POSITIVE_INFINITY : weight;
+	}
+
+	/**
+	 * Computes the weight of the partial tree, summed in the order the edges were added
+	 * @return Weight of the partial tree
+	 */
+	public double getWeight() {
+		double weight = 0;
+		for(int i = this.treeBase; i < this.treeTop; i++) {
+			weight += this.edges.getWeight(this.tree[i]);
+		}
+		return weight;
+	}
+
+	/**
+	 * Returns true if the edge connects two vertices that are already connected by the partial tree
+	 * @param id Id of an edge
+	 * @return true if the edge closes a cycle, false otherwise
+	 */
+	public boolean closesCycle(int id) {
+		return this.unionFind.inSameSet(this.edges.getSrc(id), this.edges.getDest(id));
+	}
+
+	/**
+	 * Returns true if the edge crosses an edge of the partial tree. The tree is scanned in the order the edges were added.
+	 * @param id Id of an edge
+	 * @return true if the edge crosses the partial tree, false otherwise
+	 */
+	public boolean crossesTree(int id) {
+		this.comparisons = 0;
+		for(int i = this.treeBase; i < this.treeTop; i++) {
+			this.comparisons++;
+			if(this.crossings.crosses(id, this.tree[i])) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Adds an edge to the partial tree
+	 * @param id Id of an edge that does not close a cycle
+	 */
+	public void add(int id) {
+		ensureTreeCapacity(this.treeTop + 1);
+		this.tree[this.treeTop++] = id;
+		this.inTree.set(id);
+		this.unionFind.union(this.edges.getSrc(id), this.edges.getDest(id));
+		if(this.zobristKeys != null) {
+			this.hash ^= this.zobristKeys[2 * id];
+		}
+	}
+
+	/**
+	 * Removes the edge added last. The union-find is not restored, it is only consulted by the descendants of a node,
+	 * and the alternative branch rebuilds it.
+	 */
+	public void removeLast() {
+		int id = this.tree[--this.treeTop];
+		this.inTree.clear(id);
+		if(this.zobristKeys != null) {
+			this.hash ^= this.zobristKeys[2 * id];
+		}
+	}
+
+	/**
+	 * Opens the alternative branch that takes an edge crossing the partial tree: all tree edges crossing it are deleted
+	 * and the edge is added instead. The candidates of the branch are all remaining edges, starting from cursor 0.
+	 * @param id Id of an edge crossing the partial tree
+	 * @throws RuntimeException
+	 */
+	public void enterAlternative(int id) {
+		if(this.branchCount * 3 == this.branches.length) {
+			this.branches = Arrays.copyOf(this.branches, 2 * this.branches.length);
+			this.branchHashes = Arrays.copyOf(this.branchHashes, 2 * this.branchHashes.length);
+		}
+		this.branchHashes[this.branchCount] = this.hash;
+		this.branches[3 * this.branchCount] = this.treeBase;
+		this.branches[3 * this.branchCount + 1] = this.treeTop;
+		this.branches[3 * this.branchCount + 2] = this.deletedCount;
+		this.branchCount++;
+
+		int base = this.treeTop;
+		int top = base;
+		ensureTreeCapacity(base + (this.treeTop - this.treeBase) + 1);
+		for(int i = this.treeBase; i < base; i++) {
+			int edge = this.tree[i];
+			if(this.crossings.crosses(id, edge)) {
+				this.inTree.clear(edge);
+				this.deleted.set(edge);
+				this.deletedTrail[this.deletedCount++] = edge;
+				if(this.zobristKeys != null) {
+					this.hash ^= this.zobristKeys[2 * edge] ^ this.zobristKeys[2 * edge + 1];
+				}
+			}
+			else {
+				this.tree[top++] = edge;
+			}
+		}
+		this.tree[top++] = id;
+		this.inTree.set(id);
+		if(this.zobristKeys != null) {
+			this.hash ^= this.zobristKeys[2 * id];
+		}
+		this.treeBase = base;
+		this.treeTop = top;
+
+		this.unionFind.reset();
+		for(int i = this.treeBase; i < this.treeTop; i++) {
+			int v = this.edges.getSrc(this.tree[i]);
+			int w = this.edges.getDest(this.tree[i]);
+			if(this.unionFind.inSameSet(v, w)) {
+				throw new RuntimeException("Something went horribly wrong");
+			}
+			this.unionFind.union(v, w);
+		}
+	}
+
+	/**
+	 * Closes the alternative branch opened last and restores the partial tree and the deleted edges from before it.
+	 * The union-find is not restored.
+	 */
+	public void leaveAlternative() {
+		for(int i = this.treeBase; i < this.treeTop; i++) {
+			this.inTree.clear(this.tree[i]);
+		}
+		this.branchCount--;
+		this.hash = this.branchHashes[this.branchCount];
+		this.treeBase = this.branches[3 * this.branchCount];
+		this.treeTop = this.branches[3 * this.branchCount + 1];
+		int savedDeleted = this.branches[3 * this.branchCount + 2];
+		while(this.deletedCount > savedDeleted) {
+			this.deleted.clear(this.deletedTrail[--this.deletedCount]);
+		}
+		for(int i = this.treeBase; i < this.treeTop; i++) {
+			this.inTree.set(this.tree[i]);
+		}
+	}
+
+	/**
+	 * Creates a snapshot of the root of the alternative branch that takes an edge crossing the partial tree, without changing the state
+	 * @param id Id of an edge crossing the partial tree
+	 * @return Snapshot of the state enterAlternative would produce
+	 */
+	public SearchNode alternative(int id) {
+		int[] alternativeTree = new int[size() + 1];
+		int[] alternativeDeleted = Arrays.copyOf(this.deletedTrail, this.deletedCount + size());
+		int treeSize = 0;
+		int deletedSize = this.deletedCount;
+		double weight = 0;
+		for(int i = this.treeBase; i < this.treeTop; i++) {
+			int edge = this.tree[i];
+			if(this.crossings.crosses(id, edge)) {
+				alternativeDeleted[deletedSize++] = edge;
+			}
+			else {
+				alternativeTree[treeSize++] = edge;
+				weight += this.edges.getWeight(edge);
+			}
+		}
+		alternativeTree[treeSize++] = id;
+		weight += this.edges.getWeight(id);
+		return new SearchNode(Arrays.copyOf(alternativeTree, treeSize), Arrays.copyOf(alternativeDeleted, deletedSize), weight);
+	}
+
+	/**
+	 * Replaces the state by a snapshot. All open alternative branches are discarded.
+	 * @param node Snapshot of a search node
+	 * @throws RuntimeException
+	 */
+	public void load(SearchNode node) {
+		for(int i = 0; i < this.treeTop; i++) {
+			this.inTree.clear(this.tree[i]);
+		}
+		while(this.deletedCount > 0) {
+			this.deleted.clear(this.deletedTrail[--this.deletedCount]);
+		}
+		this.branchCount = 0;
+
+		int[] nodeTree = node.getTree();
+		ensureTreeCapacity(nodeTree.length);
+		this.unionFind.reset();
+		for(int i = 0; i < nodeTree.length; i++) {
+			int v = this.edges.getSrc(nodeTree[i]);
+			int w = this.edges.getDest(nodeTree[i]);
+			if(this.unionFind.inSameSet(v, w)) {
+				throw new RuntimeException("Something went horribly wrong");
+			}
+			this.unionFind.union(v, w);
+			this.tree[i] = nodeTree[i];
+			this.inTree.set(nodeTree[i]);
+		}
+		this.treeBase = 0;
+		this.treeTop = nodeTree.length;
+
+		for(int edge : node.getDeleted()) {
+			this.deleted.set(edge);
+			this.deletedTrail[this.deletedCount++] = edge;
+		}
+		rehash();
+	}
+
+	/**
+	 * Enables the zobrist hash of the state, which identifies the tree and the deleted edges independently of the order they were changed in
+	 * @param zobristKeys Random keys of all edges, the key of edge id at 2*id stands for the tree and at 2*id+1 for deletion, or null to disable the hash
+	 * @throws IllegalArgumentException
+	 */
+	public void setZobristKeys(long[] zobristKeys) {
+		if(zobristKeys != null && zobristKeys.length < 2 * this.edges.size()) {
+			throw new IllegalArgumentException("Missing zobrist keys");
+		}
+		this.zobristKeys = zobristKeys;
+		rehash();
+	}
+
+	private void rehash() {
+		this.hash = 0;
+		if(this.zobristKeys == null) {
+			return;
+		}
+		for(int i = this.treeBase; i < this.treeTop; i++) {
+			this.hash ^= this.zobristKeys[2 * this.tree[i]];
+		}
+		for(int i = 0; i < this.deletedCount; i++) {
+			this.hash ^= this.zobristKeys[2 * this.deletedTrail[i] + 1];
+		}
+	}
+
+	/**
+	 * @return Zobrist hash of the tree and the deleted edges, 0 if the hash is disabled
+	 */
+	public long getHash() {
+		return this.hash;
+	}
+
+	private void ensureTreeCapacity(int capacity) {
+		if(capacity > this.tree.length) {
+			this.tree = Arrays.copyOf(this.tree, Math.max(capacity, 2 * this.tree.length));
+		}
+	}
+
+	/**
+	 * @return Ids of the edges of the partial tree in the order they were added
+	 */
+	public int[] getTree() {
+		return Arrays.copyOfRange(this.tree, this.treeBase, this.treeTop);
+	}
+
+	/**
+	 * @return Number of candidates of the root of an alternative branch, which are all edges neither in the tree nor deleted
+	 */
+	public int getAlternativeCandidateCount() {
+		return this.edges.size() - (this.treeTop - this.treeBase) - this.deletedCount;
+	}
+
+	public int size() {
+		return this.treeTop - this.treeBase;
+	}
+
+	public int getDeletedCount() {
+		return this.deletedCount;
+	}
+
+	public int getVertexCount() {
+		return this.vertexCount;
+	}
+
+	/**
+	 * @return Number of tree edges tested during the last crossing query
+	 */
+	public int getComparisons() {
+		return this.comparisons;
+	}
+
+}
@@ -0,0 +1,877 @@
+package drawings;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+import util.UnionFind;
+
+/**
+ * Exhaustive search for a planar minimum spanning tree on a candidate graph sorted by weight, driven by an explicit stack. <br>
+ * Every search node takes the cheapest remaining candidate edge. Edges closing a cycle are skipped and edges without crossings
+ * are added to the tree. An edge crossing the tree opens two branches: spanning trees without the edge, then alternative trees
+ * containing the edge but none of the tree edges crossing it. <br>
+ * With branch-and-bound enabled, nodes are pruned if the tree weight plus the cheapest remaining candidates cannot beat the best tree
+ * found so far. Among trees of equal weight the one found first is kept. <br>
+ * The optional completion bound replaces the cheapest candidates by a minimum spanning completion of the tree. It is only recomputed
+ * when the completion loses an edge other than by adding it to the tree, that is when a crossing edge of the completion is skipped
+ * and when an alternative branch starts. <br>
+ * With a parallelism above 1 the alternative branches are explored as tasks of a fork/join pool whenever a worker runs short of work.
+ * Every worker searches on its own partial tree, and the weight of the best tree is shared through an atomic, so a tree found by one
+ * worker prunes the nodes of all others. Among trees of equal weight the parallel search keeps an arbitrary one. <br>
+ * With a transposition table, every node whose subtree was explored completely is stored by the zobrist hash of its tree, its deleted
+ * edges and its cursor. Reaching such a node again by another sequence of branches prunes it, as its subtree holds no tree lighter
+ * than the best tree known when it was stored. <br>
+ * The optional Lagrangian bound prices the crossing constraints into the edge weights, see LagrangianBound. It is only evaluated at nodes
+ * the other bound does not prune. <br>
+ * The search can be limited by a time or node budget. It then returns the best tree found so far, and reports a proven lower bound
+ * and the optimality gap. <br>
+ * With decomposition enabled, the candidate graph is split into independent groups, see Decomposition. Every group is solved by a search
+ * of its own, and the groups are solved concurrently if the parallelism is above 1. The search spaces of the groups then add up instead
+ * of multiplying. <br>
+ * With reduction enabled, safe edges are fixed and dominated edges are removed before the search, see Reduction. The search then starts
+ * from the fixed edges and only branches on the remaining core.
+ */
+public class PlanarMSTSearch {
+
+	//stack entries besides the ids of crossing edges whose alternative branch is pending
+	private static final int UNDO_ADD = -1;
+	private static final int LEAVE_ALTERNATIVE = -2;
+
+	//alternative branches are handed to the pool while a worker has fewer queued tasks than this
+	private static final int FORK_SURPLUS = 3;
+
+	//number of nodes a worker visits between two checks of the budget
+	private static final int BUDGET_INTERVAL = 1024;
+
+	private EdgeTable edges;
+	private CrossingTable crossings;
+	private int vertexCount;
+	private boolean branchAndBound;
+	private SearchOptions options;
+
+	//best tree found so far, its weight is read by all workers without locking
+	private int[] bestTree;
+	private AtomicLong bestWeightBits;
+
+	//tree the search starts from as incumbent
+	private int[] initialTree;
+	private double initialWeight;
+
+	private ConcurrentLinkedQueue<Searcher> searchers;
+	//pool of a decomposed search that runs this search as one of its groups, null if the search creates its own pool
+	private ForkJoinPool groupPool;
+	//node the search starts from, null for the empty tree
+	private SearchNode root;
+
+	//budget of the search, the search stops as soon as one limit is reached
+	private long deadline;
+	private AtomicLong nodesSpent;
+	private volatile boolean stopped;
+	private IncumbentListener listener;
+
+	//weight of a minimum spanning tree of the candidate graph, a lower bound on every spanning tree
+	private double rootBound;
+	//relaxation with optimized multipliers, null if the Lagrangian bound is not used
+	private LagrangianBound lagrangian;
+	private double lagrangianBound;
+	//random keys of the zobrist hash of the search nodes, null if no transposition table is used
+	private long[] zobristKeys;
+
+	//statistical data
+	private long nodesVisited;
+	private long comparisonsCrossingCriterion;
+	private long transpositionCutoffs;
+	private int groupCount;
+	private int largestGroup;
+	private int fixedEdges;
+	private int removedEdges;
+
+	/**
+	 * Callback that is notified about every tree that improves the incumbent
+	 */
+	public interface IncumbentListener {
+		/**
+		 * Called while the search holds the lock of the incumbent, so calls never overlap
+		 * @param tree Ids of the edges of the new incumbent in the order they were added
+		 * @param weight Weight of the tree
+		 */
+		void incumbentFound(int[] tree, double weight);
+	}
+
+	/**
+	 * Prepares a search on a candidate graph
+	 * @param edges Candidate graph sorted by weight
+	 * @param crossings Crossing relation of the candidate graph
+	 * @param vertexCount Number of vertices of the graph
+	 * @throws IllegalArgumentException
+	 */
+	public PlanarMSTSearch(EdgeTable edges, CrossingTable crossings, int vertexCount) {
+		if(!edges.isSorted()) {
+			throw new IllegalArgumentException("Candidate edges have to be sorted by weight");
+		}
+		this.edges = edges;
+		this.crossings = crossings;
+		this.vertexCount = vertexCount;
+		this.branchAndBound = true;
+		this.options = new SearchOptions();
+		this.bestWeightBits = new AtomicLong(Double.doubleToLongBits(Double.MAX_VALUE));
+		this.lagrangianBound = Double.NEGATIVE_INFINITY;
+	}
+
+	/**
+	 * Runs the search
+	 * @throws RuntimeException
+	 * @return Ids of the edges of a planar minimum spanning tree in the order they were added or null if no planar spanning tree exists
+	 */
+	public int[] run() {
+		this.bestTree = null;
+		this.bestWeightBits = new AtomicLong(Double.doubleToLongBits(Double.MAX_VALUE));
+		if(this.initialTree != null) {
+			this.bestTree = this.initialTree.clone();
+			this.bestWeightBits.set(Double.doubleToLongBits(this.initialWeight));
+		}
+		this.groupCount = 1;
+		this.largestGroup = this.edges.size();
+		if(this.options.isDecomposition()) {
+			Decomposition decomposition = new Decomposition(this.edges, this.crossings, this.vertexCount);
+			//a disconnected candidate graph has no groups and is rejected by the search itself
+			if(decomposition.getGroupCount() > 1) {
+				return runDecomposed(decomposition);
+			}
+		}
+		this.root = null;
+		this.fixedEdges = 0;
+		this.removedEdges = 0;
+		if(this.options.isReduction()) {
+			Reduction reduction = new Reduction(this.edges, this.crossings, this.vertexCount);
+			this.root = reduction.getRoot();
+			this.fixedEdges = reduction.getFixedCount();
+			this.removedEdges = reduction.getRemovedCount();
+		}
+		this.searchers = new ConcurrentLinkedQueue<Searcher>();
+		this.zobristKeys = null;
+		if(this.options.getTranspositionTableSize() > 0) {
+			//fixed seed, so that runs are reproducible
+			Random random = new Random(this.edges.size());
+			this.zobristKeys = new long[2 * this.edges.size()];
+			for(int i = 0; i < this.zobristKeys.length; i++) {
+				this.zobristKeys[i] = random.nextLong();
+			}
+		}
+
+		this.lagrangian = null;
+		if(this.branchAndBound && this.options.isLagrangianBound()) {
+			this.lagrangian = new LagrangianBound(this.edges, this.crossings, this.vertexCount);
+			this.lagrangian.optimize(LagrangianBound.DEFAULT_ITERATIONS, this.initialTree != null ? this.initialWeight : Double.MAX_VALUE);
+		}
+		this.lagrangianBound = this.lagrangian == null ? Double.NEGATIVE_INFINITY : this.lagrangian.getBound();
+
+		this.rootBound = spanningTreeBound();
+		this.stopped = false;
+		this.nodesSpent = new AtomicLong();
+		this.deadline = 0;
+		if(this.options.getTimeLimit() > 0) {
+			//a deadline of 0 means no limit
+			this.deadline = Math.max(1, System.nanoTime() + 1000000L * this.options.getTimeLimit());
+		}
+
+		int parallelism = this.options.getParallelism();
+		if(parallelism == 0) {
+			parallelism = Runtime.getRuntime().availableProcessors();
+		}
+		if(parallelism <= 1) {
+			Searcher searcher = new Searcher();
+			this.searchers.add(searcher);
+			searcher.search(this.root, null);
+		}
+		else {
+			ThreadLocal<Searcher> workers = ThreadLocal.withInitial(() -> {
+				Searcher searcher = new Searcher();
+				this.searchers.add(searcher);
+				return searcher;
+			});
+			if(this.groupPool != null && ForkJoinTask.getPool() == this.groupPool) {
+				//a group of a decomposed search shares the pool of the groups
+				new SearchTask(workers, this.root).invoke();
+			}
+			else {
+				ForkJoinPool pool = new ForkJoinPool(parallelism);
+				try {
+					pool.invoke(new SearchTask(workers, this.root));
+				}
+				finally {
+					pool.shutdown();
+				}
+			}
+		}
+
+		this.nodesVisited = 0;
+		this.comparisonsCrossingCriterion = 0;
+		this.transpositionCutoffs = 0;
+		for(Searcher searcher : this.searchers) {
+			this.nodesVisited += searcher.nodesVisited;
+			this.comparisonsCrossingCriterion += searcher.comparisonsCrossingCriterion;
+			this.transpositionCutoffs += searcher.transpositionCutoffs;
+		}
+		this.searchers = null;
+		this.zobristKeys = null;
+		return this.bestTree;
+	}
+
+	/**
+	 * Solves every group of a decomposition by a search of its own and combines the planar minimum spanning forests of the groups
+	 * @param decomposition Decomposition of the candidate graph into at least two groups
+	 * @return Ids of the edges of a planar minimum spanning tree group by group or null if no planar spanning tree exists
+	 */
+	private int[] runDecomposed(Decomposition decomposition) {
+		int groups = decomposition.getGroupCount();
+		PlanarMSTSearch[] parts = new PlanarMSTSearch[groups];
+		int[][] partTrees = new int[groups][];
+		double[] partWeights = new double[groups];
+		this.groupCount = groups;
+		this.largestGroup = 0;
+		for(int g = 0; g < groups; g++) {
+			int[] ids = decomposition.getEdges(g);
+			this.largestGroup = Math.max(this.largestGroup, ids.length);
+			PlanarMSTSearch part = new PlanarMSTSearch(decomposition.getEdgeTable(g), decomposition.getCrossingTable(g), decomposition.getVertexCount(g));
+			part.branchAndBound = this.branchAndBound;
+			part.options = new SearchOptions(this.options);
+			part.options.setDecomposition(false);
+			if(this.initialTree != null) {
+				//a spanning tree restricted to a group is a spanning forest of the group
+				int count = 0;
+				for(int id : this.initialTree) {
+					count += decomposition.getGroup(id) == g ? 1 : 0;
+				}
+				int[] tree = new int[count];
+				count = 0;
+				for(int id : this.initialTree) {
+					if(decomposition.getGroup(id) == g) {
+						tree[count++] = Arrays.binarySearch(ids, id);
+					}
+				}
+				part.setInitialTree(tree);
+				partTrees[g] = tree;
+				partWeights[g] = part.initialWeight;
+			}
+			if(this.listener != null) {
+				int group = g;
+				part.setIncumbentListener((tree, weight) -> {
+					synchronized(this) {
+						partTrees[group] = tree;
+						partWeights[group] = weight;
+						int[] combined = combine(decomposition, partTrees);
+						if(combined != null) {
+							double sum = 0;
+							for(double w : partWeights) {
+								sum += w;
+							}
+							this.listener.incumbentFound(combined, sum);
+						}
+					}
+				});
+			}
+			parts[g] = part;
+		}
+
+		long start = System.nanoTime();
+		int parallelism = this.options.getParallelism();
+		if(parallelism == 0) {
+			parallelism = Runtime.getRuntime().availableProcessors();
+		}
+		if(parallelism <= 1) {
+			for(PlanarMSTSearch part : parts) {
+				runPart(part, start);
+			}
+		}
+		else {
+			ForkJoinPool pool = new ForkJoinPool(parallelism);
+			List<ForkJoinTask<?>> tasks = new ArrayList<ForkJoinTask<?>>();
+			for(PlanarMSTSearch part : parts) {
+				part.groupPool = pool;
+				tasks.add(ForkJoinTask.adapt(() -> runPart(part, start)));
+			}
+			try {
+				pool.invoke(ForkJoinTask.adapt(() -> {
+					ForkJoinTask.invokeAll(tasks);
+				}));
+			}
+			finally {
+				pool.shutdown();
+			}
+		}
+
+		this.nodesVisited = 0;
+		this.comparisonsCrossingCriterion = 0;
+		this.transpositionCutoffs = 0;
+		this.stopped = false;
+		this.rootBound = 0;
+		this.lagrangianBound = this.branchAndBound && this.options.isLagrangianBound() ? 0 : Double.NEGATIVE_INFINITY;
+		this.fixedEdges = 0;
+		this.removedEdges = 0;
+		double weight = 0;
+		for(int g = 0; g < groups; g++) {
+			PlanarMSTSearch part = parts[g];
+			this.nodesVisited += part.getNodesVisited();
+			this.comparisonsCrossingCriterion += part.getComparisonsCrossingCriterion();
+			this.transpositionCutoffs += part.getTranspositionCutoffs();
+			this.fixedEdges += part.getFixedEdges();
+			this.removedEdges += part.getRemovedEdges();
+			this.stopped |= !part.isComplete();
+			//the bounds of the groups add up to a bound of the whole graph
+			this.rootBound += part.getLowerBound();
+			this.lagrangianBound += part.getLagrangianBound();
+			partTrees[g] = part.getBestTree();
+			weight += part.getBestWeight();
+		}
+		int[] tree = combine(decomposition, partTrees);
+		if(tree != null && weight < getBestWeight()) {
+			this.bestTree = tree;
+			this.bestWeightBits.set(Double.doubleToLongBits(weight));
+		}
+		return this.bestTree;
+	}
+
+	/**
+	 * Runs the search of a group within the time left of the whole search
+	 * @param part Search of a group
+	 * @param start Time the search of the groups started at as given by System.nanoTime
+	 */
+	private void runPart(PlanarMSTSearch part, long start) {
+		if(this.options.getTimeLimit() > 0) {
+			long elapsed = (System.nanoTime() - start) / 1000000L;
+			part.options.setTimeLimit(Math.max(1, this.options.getTimeLimit() - elapsed));
+		}
+		part.run();
+	}
+
+	/**
+	 * Maps the trees of all groups back to the candidate graph
+	 * @param decomposition Decomposition of the candidate graph
+	 * @param partTrees Tree of every group in the ids of its subgraph
+	 * @return Ids of the edges of all trees group by group, or null if a group has no tree
+	 */
+	private static int[] combine(Decomposition decomposition, int[][] partTrees) {
+		int length = 0;
+		for(int[] partTree : partTrees) {
+			if(partTree == null) {
+				return null;
+			}
+			length += partTree.length;
+		}
+		int[] tree = new int[length];
+		int count = 0;
+		for(int g = 0; g < partTrees.length; g++) {
+			int[] ids = decomposition.getEdges(g);
+			for(int id : partTrees[g]) {
+				tree[count++] = ids[id];
+			}
+		}
+		return tree;
+	}
+
+	/**
+	 * Offers a spanning tree as new incumbent. The tree replaces the incumbent only if it is strictly lighter.
+	 * The weight is published through an atomic, so that all workers prune with it immediately.
+	 * @param tree Partial tree holding a spanning tree
+	 * @param weight Weight of the tree
+	 */
+	private synchronized void offer(PartialTree tree, double weight) {
+		if(weight < getBestWeight()) {
+			this.bestTree = tree.getTree();
+			this.bestWeightBits.set(Double.doubleToLongBits(weight));
+			if(this.listener != null) {
+				this.listener.incumbentFound(this.bestTree.clone(), weight);
+			}
+		}
+	}
+
+	/**
+	 * Charges the nodes a worker visited since its last check to the budget
+	 * @return true if the budget is exhausted and the search has to stop
+	 */
+	private boolean budgetExhausted() {
+		if(this.stopped) {
+			return true;
+		}
+		long spent = this.nodesSpent.addAndGet(BUDGET_INTERVAL);
+		if(this.options.getNodeLimit() > 0 && spent >= this.options.getNodeLimit()) {
+			this.stopped = true;
+		}
+		if(this.deadline != 0 && System.nanoTime() - this.deadline >= 0) {
+			this.stopped = true;
+		}
+		return this.stopped;
+	}
+
+	/**
+	 * Computes the weight of a minimum spanning tree of the candidate graph, ignoring crossings
+	 * @return Lower bound on the weight of every spanning tree, or Double.POSITIVE_INFINITY if the candidate graph is not connected
+	 */
+	private double spanningTreeBound() {
+		UnionFind unionFind = new UnionFind(this.vertexCount);
+		double weight = 0;
+		int count = 0;
+		for(int id = 0; id < this.edges.size() && count < this.vertexCount - 1; id++) {
+			int v = this.edges.getSrc(id);
+			int w = this.edges.getDest(id);
+			if(!unionFind.inSameSet(v, w)) {
+				unionFind.union(v, w);
+				weight += this.edges.getWeight(id);
+				count++;
+			}
+		}
+		return count < this.vertexCount - 1 ? Double.POSITIVE_INFINITY : weight;
+	}
+
+	/**
+	 * Task exploring the root of the search or the root of an alternative branch on a worker of a fork/join pool
+	 */
+	private class SearchTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private ThreadLocal<Searcher> workers;
+		private SearchNode node;
+		private List<SearchTask> forked;
+
+		/**
+		 * @param workers Searcher of every worker thread
+		 * @param node Root of an alternative branch or of the reduced search, or null for the empty tree
+		 */
+		SearchTask(ThreadLocal<Searcher> workers, SearchNode node) {
+			this.workers = workers;
+			this.node = node;
+			this.forked = new ArrayList<SearchTask>();
+		}
+
+		@Override
+		protected void compute() {
+			if(PlanarMSTSearch.this.stopped) {
+				return;
+			}
+			this.workers.get().search(this.node, this);
+			//the searcher of this worker is free again, so it may run the forked branches while joining them
+			for(SearchTask task : this.forked) {
+				task.join();
+			}
+		}
+
+		/**
+		 * @return true if idle workers may pick up another branch
+		 */
+		boolean wantsWork() {
+			return getSurplusQueuedTaskCount() < FORK_SURPLUS;
+		}
+
+		void forkAlternative(SearchNode node) {
+			SearchTask task = new SearchTask(this.workers, node);
+			this.forked.add(task);
+			task.fork();
+		}
+
+	}
+
+	/**
+	 * Depth-first search of one worker, owning its partial tree, its stack and its completion bound
+	 */
+	private class Searcher {
+
+		private PartialTree tree;
+
+		private int[] stackEntries;
+		private double[] stackWeights;
+		//hashes of the nodes that pushed the entries, only maintained with a transposition table
+		private long[] stackKeys;
+		private int stackSize;
+
+		//nodes explored by this worker, null if disabled
+		private TranspositionTable table;
+
+		//minimum spanning completion of the current node, valid along a path until the search backtracks
+		private int[] completion;
+		private int completionStart;
+		private int completionEnd;
+		private boolean completionValid;
+
+		//statistical data
+		private long nodesVisited;
+		private long comparisonsCrossingCriterion;
+		private long transpositionCutoffs;
+
+		Searcher() {
+			this.tree = new PartialTree(PlanarMSTSearch.this.edges, PlanarMSTSearch.this.crossings, PlanarMSTSearch.this.vertexCount);
+			this.stackEntries = new int[Math.max(16, PlanarMSTSearch.this.vertexCount)];
+			this.stackWeights = new double[this.stackEntries.length];
+			this.stackKeys = new long[this.stackEntries.length];
+			if(PlanarMSTSearch.this.zobristKeys != null) {
+				this.table = new TranspositionTable(PlanarMSTSearch.this.options.getTranspositionTableSize());
+				this.tree.setZobristKeys(PlanarMSTSearch.this.zobristKeys);
+			}
+			this.completion = new int[Math.max(1, PlanarMSTSearch.this.vertexCount)];
+		}
+
+		/**
+		 * Explores all nodes below a root. Alternative branches are handed to the pool whenever it runs short of work, otherwise they are explored here.
+		 * @param node Root of an alternative branch or of the reduced search, or null for the empty tree
+		 * @param task Task running the search, or null if the search runs on a single thread
+		 * @throws RuntimeException
+		 */
+		void search(SearchNode node, SearchTask task) {
+			EdgeTable edges = PlanarMSTSearch.this.edges;
+			PartialTree tree = this.tree;
+			this.stackSize = 0;
+			this.completionValid = false;
+
+			int cursor = 0;
+			int candidateCount;
+			double weight;
+			if(node == null) {
+				candidateCount = edges.size();
+				weight = 0;
+			}
+			else {
+				tree.load(node);
+				candidateCount = tree.getAlternativeCandidateCount();
+				weight = node.getWeight();
+			}
+
+			TranspositionTable table = this.table;
+			long key = 0;
+
+			while(true) {
+				int missing = (PlanarMSTSearch.this.vertexCount-1) - tree.size();
+				boolean expand = true;
+				if(table != null) {
+					key = nodeKey(tree, cursor);
+				}
+
+				if(missing == 0) {
+					//the spanning tree is complete
+					if(weight < getBestWeight()) {
+						offer(tree, weight);
+					}
+					expand = false;
+				}
+				else if(candidateCount < missing) {
+					//not enough edges left
+					expand = false;
+				}
+				else if(table != null && table.get(key) >= getBestWeight()) {
+					//the node was reached before and its subtree contains no tree lighter than the current optimum
+					this.transpositionCutoffs++;
+					expand = false;
+				}
+				else if(PlanarMSTSearch.this.branchAndBound && lowerBound(weight, cursor, missing) >= getBestWeight()) {
+					//prune nodes that can't beat the current optimum
+					expand = false;
+				}
+
+				if(expand) {
+					this.nodesVisited++;
+					if(this.nodesVisited % BUDGET_INTERVAL == 0 && budgetExhausted()) {
+						break;
+					}
+					int nextEdge = tree.nextCandidate(cursor);
+					cursor = nextEdge + 1;
+					candidateCount--;
+
+					if(!tree.closesCycle(nextEdge)) {
+						boolean crossing = tree.crossesTree(nextEdge);
+						this.comparisonsCrossingCriterion += tree.getComparisons();
+						if(crossing) {
+							//explore the trees without the edge first, the alternative branch waits on the stack or in the pool
+							if(task != null && task.wantsWork()) {
+								task.forkAlternative(tree.alternative(nextEdge));
+							}
+							else {
+								push(nextEdge, weight, key);
+							}
+							if(this.completionValid && this.completion[this.completionStart] == nextEdge) {
+								this.completionValid = false;
+							}
+						}
+						else {
+							//the cheapest candidate is the first edge of the completion, unless it closes a cycle
+							if(this.completionValid && this.completion[this.completionStart] == nextEdge) {
+								this.completionStart++;
+							}
+							else {
+								this.completionValid = false;
+							}
+							tree.add(nextEdge);
+							push(UNDO_ADD, weight, key);
+							weight += edges.getWeight(nextEdge);
+						}
+					}
+					continue;
+				}
+
+				//backtrack to the next pending alternative branch
+				this.completionValid = false;
+				int entry = UNDO_ADD;
+				while(this.stackSize > 0) {
+					this.stackSize--;
+					entry = this.stackEntries[this.stackSize];
+					weight = this.stackWeights[this.stackSize];
+					if(entry == UNDO_ADD) {
+						tree.removeLast();
+					}
+					else if(entry == LEAVE_ALTERNATIVE) {
+						tree.leaveAlternative();
+					}
+					else {
+						break;
+					}
+					//both branches of the node that pushed the entry are explored
+					if(table != null) {
+						table.put(this.stackKeys[this.stackSize], getBestWeight());
+					}
+				}
+				if(entry < 0) {
+					break;
+				}
+
+				tree.enterAlternative(entry);
+				push(LEAVE_ALTERNATIVE, weight, this.stackKeys[this.stackSize]);
+				weight = tree.getWeight();
+				cursor = 0;
+				candidateCount = tree.getAlternativeCandidateCount();
+			}
+		}
+
+		/**
+		 * Computes the lower bound of a search node
+		 * @param weight Weight of the partial tree
+		 * @param cursor Smallest id of the candidates of the node
+		 * @param missing Number of edges missing from a spanning tree
+		 * @return Lower bound on the weight of the spanning trees reachable from the node
+		 */
+		private double lowerBound(double weight, int cursor, int missing) {
+			double bound = combinatorialBound(weight, cursor, missing);
+			LagrangianBound lagrangian = PlanarMSTSearch.this.lagrangian;
+			if(lagrangian != null && bound < getBestWeight()) {
+				bound = Math.max(bound, lagrangian.nodeBound(this.tree, cursor));
+			}
+			return bound;
+		}
+
+		/**
+		 * Computes the bound of a search node from the weights of the remaining candidates
+		 * @param weight Weight of the partial tree
+		 * @param cursor Smallest id of the candidates of the node
+		 * @param missing Number of edges missing from a spanning tree
+		 * @return Lower bound on the weight of the spanning trees reachable from the node
+		 */
+		private double combinatorialBound(double weight, int cursor, int missing) {
+			if(!PlanarMSTSearch.this.options.isCompletionBound()) {
+				return this.tree.addCheapestCandidates(weight, cursor, missing);
+			}
+			if(!this.completionValid) {
+				this.completionEnd = this.tree.computeCompletion(cursor, this.completion);
+				this.completionStart = 0;
+				this.completionValid = true;
+			}
+			if(this.completionEnd - this.completionStart < missing) {
+				//the remaining candidates cannot complete the tree
+				return Double.POSITIVE_INFINITY;
+			}
+			for(int i = this.completionStart; i < this.completionEnd; i++) {
+				weight += PlanarMSTSearch.this.edges.getWeight(this.completion[i]);
+			}
+			return weight;
+		}
+
+		private void push(int entry, double weight, long key) {
+			if(this.stackSize == this.stackEntries.length) {
+				this.stackEntries = Arrays.copyOf(this.stackEntries, 2 * this.stackSize);
+				this.stackWeights = Arrays.copyOf(this.stackWeights, 2 * this.stackSize);
+				this.stackKeys = Arrays.copyOf(this.stackKeys, 2 * this.stackSize);
+			}
+			this.stackEntries[this.stackSize] = entry;
+			this.stackWeights[this.stackSize] = weight;
+			this.stackKeys[this.stackSize] = key;
+			this.stackSize++;
+		}
+
+		/**
+		 * Computes the hash of a search node. The subtree of a node only depends on the tree, the deleted edges and the cursor,
+		 * not on the order in which the search reached them.
+		 */
+		private long nodeKey(PartialTree tree, int cursor) {
+			return tree.getHash() ^ ((cursor + 1) * 0x9E3779B97F4A7C15L);
+		}
+
+	}
+
+	/**
+	 * Specifies if nodes are pruned by their lower bound, otherwise the search enumerates all nodes
+	 * @param branchAndBound Specifies if branch-and-bound is used
+	 */
+	public void setBranchAndBound(boolean branchAndBound) {
+		this.branchAndBound = branchAndBound;
+	}
+
+	/**
+	 * Starts the search with a known planar spanning tree as incumbent, so that nodes are pruned from the root on.
+	 * The search returns the initial tree unless it finds a strictly lighter one.
+	 * @param tree Ids of the edges of a planar spanning tree of the candidate graph, or null to start without incumbent
+	 * @throws IllegalArgumentException
+	 */
+	public void setInitialTree(int[] tree) {
+		if(tree == null) {
+			this.initialTree = null;
+			return;
+		}
+		if(tree.length != this.vertexCount - 1) {
+			throw new IllegalArgumentException("Initial tree is not a spanning tree");
+		}
+		UnionFind unionFind = new UnionFind(this.vertexCount);
+		double weight = 0;
+		for(int i = 0; i < tree.length; i++) {
+			if(tree[i] < 0 || tree[i] >= this.edges.size()) {
+				throw new IllegalArgumentException("Initial tree contains an edge outside the candidate graph");
+			}
+			int v = this.edges.getSrc(tree[i]);
+			int w = this.edges.getDest(tree[i]);
+			if(unionFind.inSameSet(v, w)) {
+				throw new IllegalArgumentException("Initial tree is not a spanning tree");
+			}
+			unionFind.union(v, w);
+			for(int j = 0; j < i; j++) {
+				if(this.crossings.crosses(tree[i], tree[j])) {
+					throw new IllegalArgumentException("Initial tree is not planar");
+				}
+			}
+			weight += this.edges.getWeight(tree[i]);
+		}
+		this.initialTree = tree.clone();
+		this.initialWeight = weight;
+	}
+
+	/**
+	 * Sets the options of the search
+	 * @param options Search options
+	 */
+	public void setOptions(SearchOptions options) {
+		this.options = new SearchOptions(options);
+	}
+
+	public int[] getBestTree() {
+		return this.bestTree;
+	}
+
+	/**
+	 * @return Weight of the best tree or Double.MAX_VALUE if none was found
+	 */
+	public double getBestWeight() {
+		return Double.longBitsToDouble(this.bestWeightBits.get());
+	}
+
+	/**
+	 * @return Number of search nodes in which a candidate edge was examined
+	 */
+	public long getNodesVisited() {
+		return this.nodesVisited;
+	}
+
+	public long getComparisonsCrossingCriterion() {
+		return this.comparisonsCrossingCriterion;
+	}
+
+	/**
+	 * Sets the callback notified about every tree improving the incumbent, the initial tree is not reported
+	 * @param listener Callback, or null
+	 */
+	public void setIncumbentListener(IncumbentListener listener) {
+		this.listener = listener;
+	}
+
+	/**
+	 * @return true if the last run explored the whole search tree, false if it stopped because the budget was exhausted
+	 */
+	public boolean isComplete() {
+		return !this.stopped;
+	}
+
+	/**
+	 * Returns the proven lower bound of the last run. A complete run proves the weight of the best tree, otherwise
+	 * the weight of a minimum spanning tree of the candidate graph or the Lagrangian bound of the root is proven.
+	 * @return Lower bound on the weight of a planar minimum spanning tree
+	 */
+	public double getLowerBound() {
+		if(isComplete()) {
+			return getBestWeight();
+		}
+		return Math.min(getBestWeight(), Math.max(this.rootBound, getLagrangianBound()));
+	}
+
+	/**
+	 * @return Relative gap between the weight of the best tree and the proven lower bound, 0 if the best tree is proven optimal,
+	 * Double.POSITIVE_INFINITY if no tree was found
+	 */
+	public double getGap() {
+		if(this.bestTree == null) {
+			return Double.POSITIVE_INFINITY;
+		}
+		double best = getBestWeight();
+		return best == 0 ? 0 : (best - getLowerBound()) / best;
+	}
+
+	/**
+	 * @return true if the best tree of the last run is proven to be optimal
+	 */
+	public boolean isProvenOptimal() {
+		return this.bestTree != null && getLowerBound() >= getBestWeight();
+	}
+
+	/**
+	 * @return Lagrangian bound of the root, or Double.NEGATIVE_INFINITY if the Lagrangian bound was not used
+	 */
+	public double getLagrangianBound() {
+		return this.lagrangianBound;
+	}
+
+	/**
+	 * @return Number of search nodes pruned by the transposition table
+	 */
+	public long getTranspositionCutoffs() {
+		return this.transpositionCutoffs;
+	}
+
+	/**
+	 * @return Number of independent groups the last run solved, 1 if the candidate graph was not decomposed
+	 */
+	public int getGroupCount() {
+		return this.groupCount;
+	}
+
+	/**
+	 * @return Number of candidate edges of the largest group of the last run
+	 */
+	public int getLargestGroup() {
+		return this.largestGroup;
+	}
+
+	/**
+	 * @return Number of edges the reduction of the last run fixed before the search
+	 */
+	public int getFixedEdges() {
+		return this.fixedEdges;
+	}
+
+	/**
+	 * @return Number of edges the reduction of the last run removed before the search
+	 */
+	public int getRemovedEdges() {
+		return this.removedEdges;
+	}
+
+}
@@ -0,0 +1,239 @@
+package drawings;
+
+import java.util.Arrays;
+
+import util.UnionFind;
+
+/**
+ * Reduces the planar minimum spanning tree problem on a candidate graph before the exhaustive search. <br>
+ * Three rules are applied until none of them changes anything, each keeps at least one planar minimum spanning tree that contains all
+ * fixed edges and no removed edge: <br>
+ * A safe edge crosses no remaining edge and its endpoints are not connected by fixed edges and cheaper remaining edges. Every cycle it closes
+ * in an optimal tree contains an edge that is not fixed and not cheaper, which can be exchanged for it, so the edge is fixed. <br>
+ * An edge closing a cycle with fixed edges is removed. <br>
+ * An edge is dominated if its endpoints are connected by fixed edges and cheaper edges that cross no remaining edge but the edge itself.
+ * An optimal tree containing the edge can exchange it for one of those edges, so the edge is removed. <br>
+ * The search then starts from the fixed edges as partial tree and the removed edges as deleted edges.
+ */
+public class Reduction {
+
+	private EdgeTable edges;
+	private CrossingTable crossings;
+	private int vertexCount;
+
+	private boolean[] fixed;
+	private boolean[] removed;
+	//number of remaining edges crossing every edge
+	private int[] remainingCrossings;
+	private int[] fixedOrder;
+	private int fixedCount;
+	private int removedCount;
+	private int rounds;
+
+	/**
+	 * Reduces a candidate graph
+	 * @param edges Candidate graph sorted by weight
+	 * @param crossings Crossing relation of the candidate graph
+	 * @param vertexCount Number of vertices of the graph
+	 */
+	public Reduction(EdgeTable edges, CrossingTable crossings, int vertexCount) {
+		this.edges = edges;
+		this.crossings = crossings;
+		this.vertexCount = vertexCount;
+		this.fixed = new boolean[edges.size()];
+		this.removed = new boolean[edges.size()];
+		this.remainingCrossings = new int[edges.size()];
+		this.fixedOrder = new int[Math.max(0, vertexCount - 1)];
+		for(int id = 0; id < edges.size(); id++) {
+			this.remainingCrossings[id] = crossings.countCrossings(id);
+		}
+
+		boolean changed = true;
+		while(changed && this.fixedCount < vertexCount - 1) {
+			this.rounds++;
+			changed = fixSafeEdges();
+			changed |= removeCycleEdges();
+			changed |= removeDominatedEdges();
+		}
+		if(this.fixedCount == vertexCount - 1) {
+			//the tree is complete, all other edges close a cycle
+			removeCycleEdges();
+		}
+	}
+
+	/**
+	 * Fixes all safe edges in ascending order
+	 * @return true if an edge was fixed
+	 */
+	private boolean fixSafeEdges() {
+		UnionFind unionFind = fixedUnionFind();
+		boolean changed = false;
+		for(int id = 0; id < this.edges.size(); id++) {
+			if(this.removed[id] || this.fixed[id]) {
+				continue;
+			}
+			int v = this.edges.getSrc(id);
+			int w = this.edges.getDest(id);
+			if(this.remainingCrossings[id] == 0 && !unionFind.inSameSet(v, w)) {
+				this.fixed[id] = true;
+				this.fixedOrder[this.fixedCount++] = id;
+				changed = true;
+			}
+			unionFind.union(v, w);
+		}
+		return changed;
+	}
+
+	/**
+	 * Removes all edges closing a cycle with the fixed edges
+	 * @return true if an edge was removed
+	 */
+	private boolean removeCycleEdges() {
+		UnionFind unionFind = fixedUnionFind();
+		boolean changed = false;
+		for(int id = 0; id < this.edges.size(); id++) {
+			if(!this.removed[id] && !this.fixed[id] && unionFind.inSameSet(this.edges.getSrc(id), this.edges.getDest(id))) {
+				remove(id);
+				changed = true;
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * Removes dominated edges in ascending order
+	 * @return true if an edge was removed
+	 */
+	private boolean removeDominatedEdges() {
+		//fixed edges and cheaper edges without crossings
+		UnionFind unionFind = fixedUnionFind();
+		int[] from = new int[8];
+		int[] to = new int[8];
+		boolean changed = false;
+		for(int id = 0; id < this.edges.size(); id++) {
+			if(this.removed[id] || this.fixed[id]) {
+				continue;
+			}
+			int v = unionFind.getRepresentative(this.edges.getSrc(id));
+			int w = unionFind.getRepresentative(this.edges.getDest(id));
+			boolean dominated = v == w;
+			if(!dominated) {
+				//cheaper edges crossing only this edge connect the components of their endpoints
+				int count = 0;
+				for(int other = this.crossings.nextCrossing(id, 0); other >= 0 && other < id; other = this.crossings.nextCrossing(id, other + 1)) {
+					if(!this.removed[other] && this.remainingCrossings[other] == 1) {
+						if(count == from.length) {
+							from = Arrays.copyOf(from, 2 * count);
+							to = Arrays.copyOf(to, 2 * count);
+						}
+						from[count] = unionFind.getRepresentative(this.edges.getSrc(other));
+						to[count] = unionFind.getRepresentative(this.edges.getDest(other));
+						count++;
+					}
+				}
+				dominated = connects(from, to, count, v, w);
+			}
+			if(dominated) {
+				remove(id);
+				changed = true;
+			}
+			else if(this.remainingCrossings[id] == 0) {
+				unionFind.union(this.edges.getSrc(id), this.edges.getDest(id));
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * Tests if a few edges between components connect two components, by a search over the edges
+	 * @return true if a path of the edges leads from v to w
+	 */
+	private static boolean connects(int[] from, int[] to, int count, int v, int w) {
+		if(count == 0) {
+			return false;
+		}
+		int[] reached = new int[count + 1];
+		int size = 0;
+		reached[size++] = v;
+		boolean[] used = new boolean[count];
+		for(int i = 0; i < size; i++) {
+			for(int e = 0; e < count; e++) {
+				if(!used[e] && (from[e] == reached[i] || to[e] == reached[i])) {
+					used[e] = true;
+					int next = from[e] == reached[i] ? to[e] : from[e];
+					if(next == w) {
+						return true;
+					}
+					reached[size++] = next;
+				}
+			}
+		}
+		return false;
+	}
+
+	private void remove(int id) {
+		this.removed[id] = true;
+		this.removedCount++;
+		for(int other = this.crossings.nextCrossing(id, 0); other >= 0; other = this.crossings.nextCrossing(id, other + 1)) {
+			this.remainingCrossings[other]--;
+		}
+	}
+
+	private UnionFind fixedUnionFind() {
+		UnionFind unionFind = new UnionFind(this.vertexCount);
+		for(int i = 0; i < this.fixedCount; i++) {
+			unionFind.union(this.edges.getSrc(this.fixedOrder[i]), this.edges.getDest(this.fixedOrder[i]));
+		}
+		return unionFind;
+	}
+
+	/**
+	 * @return Search node holding the fixed edges in the order they were fixed as tree and the removed edges as deleted edges
+	 */
+	public SearchNode getRoot() {
+		int[] tree = Arrays.copyOf(this.fixedOrder, this.fixedCount);
+		int[] deleted = new int[this.removedCount];
+		int count = 0;
+		for(int id = 0; id < this.edges.size(); id++) {
+			if(this.removed[id]) {
+				deleted[count++] = id;
+			}
+		}
+		double weight = 0;
+		for(int id : tree) {
+			weight += this.edges.getWeight(id);
+		}
+		return new SearchNode(tree, deleted, weight);
+	}
+
+	public boolean isFixed(int id) {
+		return this.fixed[id];
+	}
+
+	public boolean isRemoved(int id) {
+		return this.removed[id];
+	}
+
+	public int getFixedCount() {
+		return this.fixedCount;
+	}
+
+	public int getRemovedCount() {
+		return this.removedCount;
+	}
+
+	/**
+	 * @return Number of candidate edges neither fixed nor removed, on which the search branches
+	 */
+	public int getCoreSize() {
+		return this.edges.size() - this.fixedCount - this.removedCount;
+	}
+
+	/**
+	 * @return Number of rounds of all rules until the fixpoint was reached
+	 */
+	public int getRounds() {
+		return this.rounds;
+	}
+
+}
@@ -0,0 +1,37 @@
+package drawings;
+
+/**
+ * Snapshot of the root of an alternative branch of the planar minimum spanning tree search, so that the branch can be explored by another worker. <br>
+ * Holds the ids of the tree edges in the order they were added, the ids of the deleted edges and the weight of the tree.
+ */
+public class SearchNode {
+
+	private int[] tree;
+	private int[] deleted;
+	private double weight;
+
+	/**
+	 * Creates a snapshot
+	 * @param tree Ids of the tree edges in the order they were added
+	 * @param deleted Ids of the deleted edges
+	 * @param weight Weight of the tree, summed in the order the edges were added
+	 */
+	public SearchNode(int[] tree, int[] deleted, double weight) {
+		this.tree = tree;
+		this.deleted = deleted;
+		this.weight = weight;
+	}
+
+	public int[] getTree() {
+		return this.tree;
+	}
+
+	public int[] getDeleted() {
+		return this.deleted;
+	}
+
+	public double getWeight() {
+		return this.weight;
+	}
+
+}
@@ -0,0 +1,153 @@
+package drawings;
+
+/**
+ * Options of the branch-and-bound search for planar minimum spanning trees
+ */
+public class SearchOptions {
+
+	private boolean completionBound;
+	private int parallelism;
+	private int transpositionTableSize;
+	private boolean lagrangianBound;
+	private long timeLimit;
+	private long nodeLimit;
+	private boolean decomposition;
+	private boolean reduction;
+
+	public SearchOptions() {
+		this.completionBound = false;
+		this.parallelism = 1;
+		this.transpositionTableSize = 0;
+		this.lagrangianBound = false;
+		this.timeLimit = 0;
+		this.nodeLimit = 0;
+		this.decomposition = false;
+		this.reduction = false;
+	}
+
+	public SearchOptions(SearchOptions other) {
+		this.completionBound = other.isCompletionBound();
+		this.parallelism = other.getParallelism();
+		this.transpositionTableSize = other.getTranspositionTableSize();
+		this.lagrangianBound = other.isLagrangianBound();
+		this.timeLimit = other.getTimeLimit();
+		this.nodeLimit = other.getNodeLimit();
+		this.decomposition = other.isDecomposition();
+		this.reduction = other.isReduction();
+	}
+
+	public boolean isCompletionBound() {
+		return this.completionBound;
+	}
+
+	/**
+	 * Specifies if search nodes are bounded by the weight of a minimum spanning completion of the partial tree, computed by Kruskal's algorithm on the
+	 * remaining candidates while ignoring crossings. Otherwise the bound adds the cheapest remaining candidates to the tree weight.
+	 * @param completionBound Specifies if the completion bound is used
+	 */
+	public void setCompletionBound(boolean completionBound) {
+		this.completionBound = completionBound;
+	}
+
+	public int getParallelism() {
+		return this.parallelism;
+	}
+
+	/**
+	 * Sets the number of worker threads of the search. With more than one thread, branches of the search tree are explored on a fork/join pool.
+	 * @param parallelism Number of worker threads, 0 uses all cores
+	 * @throws IllegalArgumentException
+	 */
+	public void setParallelism(int parallelism) {
+		if(parallelism < 0) {
+			throw new IllegalArgumentException("Parallelism must not be negative");
+		}
+		this.parallelism = parallelism;
+	}
+
+	public int getTranspositionTableSize() {
+		return this.transpositionTableSize;
+	}
+
+	/**
+	 * Sets the number of entries of the transposition table of every worker, which prunes search nodes reached again by another sequence of branches
+	 * @param transpositionTableSize Number of entries, 0 disables the table
+	 * @throws IllegalArgumentException
+	 */
+	public void setTranspositionTableSize(int transpositionTableSize) {
+		if(transpositionTableSize < 0 || transpositionTableSize > (1 << 30)) {
+			throw new IllegalArgumentException("Unsupported transposition table size: " + transpositionTableSize);
+		}
+		this.transpositionTableSize = transpositionTableSize;
+	}
+
+	public boolean isLagrangianBound() {
+		return this.lagrangianBound;
+	}
+
+	/**
+	 * Specifies if search nodes are additionally bounded by a Lagrangian relaxation of the crossing constraints, whose multipliers are optimized once at the root
+	 * @param lagrangianBound Specifies if the Lagrangian bound is used
+	 */
+	public void setLagrangianBound(boolean lagrangianBound) {
+		this.lagrangianBound = lagrangianBound;
+	}
+
+	public long getTimeLimit() {
+		return this.timeLimit;
+	}
+
+	/**
+	 * Limits the wall-clock time of the search, which then returns the best tree found so far
+	 * @param timeLimit Time limit in milliseconds, 0 for no limit
+	 * @throws IllegalArgumentException
+	 */
+	public void setTimeLimit(long timeLimit) {
+		if(timeLimit < 0) {
+			throw new IllegalArgumentException("Time limit must not be negative");
+		}
+		this.timeLimit = timeLimit;
+	}
+
+	public long getNodeLimit() {
+		return this.nodeLimit;
+	}
+
+	/**
+	 * Limits the number of visited search nodes, which then returns the best tree found so far. The budget is checked every 1024 nodes of a worker.
+	 * @param nodeLimit Maximum number of visited nodes, 0 for no limit
+	 * @throws IllegalArgumentException
+	 */
+	public void setNodeLimit(long nodeLimit) {
+		if(nodeLimit < 0) {
+			throw new IllegalArgumentException("Node limit must not be negative");
+		}
+		this.nodeLimit = nodeLimit;
+	}
+
+	public boolean isDecomposition() {
+		return this.decomposition;
+	}
+
+	/**
+	 * Specifies if the candidate graph is split into groups of blocks that share no crossings, which are solved independently.
+	 * The time limit applies to the whole search, the node limit to every group.
+	 * @param decomposition Specifies if the search is decomposed
+	 */
+	public void setDecomposition(boolean decomposition) {
+		this.decomposition = decomposition;
+	}
+
+	public boolean isReduction() {
+		return this.reduction;
+	}
+
+	/**
+	 * Specifies if safe edges are fixed and dominated edges are removed until a fixpoint is reached, before the search branches on the remaining edges
+	 * @param reduction Specifies if the candidate graph is reduced
+	 */
+	public void setReduction(boolean reduction) {
+		this.reduction = reduction;
+	}
+
+}
@@ -0,0 +1,108 @@
+package drawings;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size table of search nodes of the planar minimum spanning tree search whose subtree was explored completely. <br>
+ * Every node is stored with a proven bound: no spanning tree below it is lighter than the best tree known when its exploration finished.
+ * The table is organized in buckets of four entries addressed by the hash of the node. A full bucket evicts its least recently used entry.
+ */
+public class TranspositionTable {
+
+	private static final int WAYS = 4;
+
+	private long[] keys;
+	private double[] bounds;
+	//time of the last access of an entry, 0 marks an empty entry
+	private long[] stamps;
+	private int bucketMask;
+	private long clock;
+
+	//statistical data
+	private long hits;
+	private long evictions;
+
+	/**
+	 * Creates an empty table
+	 * @param capacity Maximum number of entries, rounded up to a power of two of at least four
+	 * @throws IllegalArgumentException
+	 */
+	public TranspositionTable(int capacity) {
+		if(capacity <= 0 || capacity > (1 << 30)) {
+			throw new IllegalArgumentException("Unsupported capacity: " + capacity);
+		}
+		int buckets = Integer.highestOneBit(Math.max(WAYS, capacity) - 1) * 2 / WAYS;
+		this.keys = new long[buckets * WAYS];
+		this.bounds = new double[buckets * WAYS];
+		this.stamps = new long[buckets * WAYS];
+		this.bucketMask = buckets - 1;
+	}
+
+	/**
+	 * Looks up the bound of a node
+	 * @param key Hash of the node
+	 * @return Proven bound of the node or Double.NEGATIVE_INFINITY if the node is not stored
+	 */
+	public double get(long key) {
+		int bucket = bucket(key);
+		for(int i = bucket; i < bucket + WAYS; i++) {
+			if(this.stamps[i] != 0 && this.keys[i] == key) {
+				this.stamps[i] = ++this.clock;
+				this.hits++;
+				return this.bounds[i];
+			}
+		}
+		return Double.NEGATIVE_INFINITY;
+	}
+
+	/**
+	 * Stores the bound of a node, replacing an older bound of the same node
+	 * @param key Hash of the node
+	 * @param bound Proven bound of the node
+	 */
+	public void put(long key, double bound) {
+		int bucket = bucket(key);
+		int target = bucket;
+		for(int i = bucket; i < bucket + WAYS; i++) {
+			if(this.stamps[i] != 0 && this.keys[i] == key) {
+				target = i;
+				break;
+			}
+			if(this.stamps[i] < this.stamps[target]) {
+				target = i;
+			}
+		}
+		if(this.stamps[target] != 0 && this.keys[target] != key) {
+			this.evictions++;
+		}
+		this.keys[target] = key;
+		this.bounds[target] = bound;
+		this.stamps[target] = ++this.clock;
+	}
+
+	/**
+	 * Removes all entries
+	 */
+	public void clear() {
+		Arrays.fill(this.stamps, 0);
+		this.clock = 0;
+	}
+
+	private int bucket(long key) {
+		//the low bits of the hash select the bucket, mixed with the high bits
+		return (int) ((key ^ (key >>> 32)) & this.bucketMask) * WAYS;
+	}
+
+	public int getCapacity() {
+		return this.keys.length;
+	}
+
+	public long getHits() {
+		return this.hits;
+	}
+
+	public long getEvictions() {
+		return this.evictions;
+	}
+
+}
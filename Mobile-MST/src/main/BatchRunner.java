@@ -0,0 +1,146 @@
+package main;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashSet;
+import java.util.Properties;
+import java.util.Set;
+
+import util.Data;
+
+/**
+ * Headless command-line entry point for statistical sweeps. Never opens a window, so it can run on machines without a display. <br>
+ * Usage: BatchRunner [--config file] [--samples n] [--size n] [--seed s] [--algorithms A,B,...] [--threads n] [--per-sample-seeds true|false] [--completion-bound true|false] [--search-threads n] [--warm-start true|false] [--transposition-table n] [--lagrangian-bound true|false] [--time-limit ms] [--node-limit n] [--decomposition true|false] [--reduction true|false] [--output path] <br>
+ * The config file is a properties file with the keys samples, size, seed, algorithms, threads, per-sample-seeds, completion-bound, search-threads, warm-start, transposition-table, lagrangian-bound, time-limit, node-limit, decomposition, reduction and output. Command-line options override it. <br>
+ * With more than one thread (0 uses all cores) every sample is drawn from its own seed, so results do not depend on the thread count. <br>
+ * The search threads (0 uses all cores) parallelize the branch-and-bound search of a single sample, which pays off for few large samples. <br>
+ * The time limit in milliseconds and the node limit bound every exhaustive search, so a single hard sample cannot stall the sweep. 0 means no limit. <br>
+ * With decomposition the branch-and-bound search solves groups of the candidate graph without crossings between them independently. <br>
+ * With reduction both exhaustive searches fix safe edges and remove dominated edges before they branch.
+ */
+public class BatchRunner {
+
+	private static final String USAGE = "Usage: BatchRunner [--config file] [--samples n] [--size n] [--seed s] [--algorithms A,B,...] [--threads n] [--per-sample-seeds true|false] [--completion-bound true|false] [--search-threads n] [--warm-start true|false] [--transposition-table n] [--lagrangian-bound true|false] [--time-limit ms] [--node-limit n] [--decomposition true|false] [--reduction true|false] [--output path]\n"
+			+ "Algorithms: KRUSKAL, CROSSING_STABLE, MOVING_KRUSKAL, BRUTE_FORCE, BAB, Y_MONOTONE (default: all)";
+
+	public static void main(String[] args) throws IOException {
+		System.setProperty("java.awt.headless", "true");
+
+		Properties config = new Properties();
+		config.setProperty("samples", "11044");
+		config.setProperty("size", "10");
+		config.setProperty("seed", "13052021");
+		config.setProperty("output", "results.csv");
+
+		Properties overrides = new Properties();
+		for(int i = 0; i < args.length; i++) {
+			String option = args[i];
+			if(option.equals("--help") || option.equals("-h")) {
+				System.out.println(USAGE);
+				return;
+			}
+			if(!option.startsWith("--") || i + 1 >= args.length) {
+				throw new IllegalArgumentException("Malformed option " + option + "\n" + USAGE);
+			}
+			overrides.setProperty(option.substring(2), args[++i]);
+		}
+
+		if(overrides.containsKey("config")) {
+			try (InputStream in = new FileInputStream(overrides.getProperty("config"))) {
+				config.load(in);
+			}
+		}
+		config.putAll(overrides);
+
+		Experiment experiment = createExperiment(config);
+		Data data = experiment.run();
+		data.printToFile(config.getProperty("output"));
+	}
+
+	/**
+	 * Creates an experiment from the given configuration
+	 * @param config Configuration with the keys samples, size, seed and optionally algorithms
+	 * @throws IllegalArgumentException
+	 * @return Configured experiment
+	 */
+	static Experiment createExperiment(Properties config) {
+		for(String key : config.stringPropertyNames()) {
+			switch(key) {
+			case "config":
+			case "samples":
+			case "size":
+			case "seed":
+			case "algorithms":
+			case "threads":
+			case "per-sample-seeds":
+			case "completion-bound":
+			case "search-threads":
+			case "warm-start":
+			case "transposition-table":
+			case "lagrangian-bound":
+			case "time-limit":
+			case "node-limit":
+			case "decomposition":
+			case "reduction":
+			case "output":
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown option " + key + "\n" + USAGE);
+			}
+		}
+
+		int sampleSize = Integer.parseInt(config.getProperty("samples").trim());
+		int pointsetSize = Integer.parseInt(config.getProperty("size").trim());
+		long seed = Long.parseLong(config.getProperty("seed").trim());
+		Experiment experiment = new Experiment(sampleSize, pointsetSize, seed);
+
+		if(config.containsKey("algorithms")) {
+			Set<String> algorithms = new LinkedHashSet<String>();
+			for(String algorithm : config.getProperty("algorithms").split(",")) {
+				algorithms.add(algorithm.trim().toUpperCase().replace('-', '_'));
+			}
+			experiment.setAlgorithms(algorithms);
+		}
+		
+		if(config.containsKey("threads")) {
+			int threads = Integer.parseInt(config.getProperty("threads").trim());
+			if(threads <= 0) {
+				threads = Runtime.getRuntime().availableProcessors();
+			}
+			experiment.setThreads(threads);
+		}
+		if(config.containsKey("per-sample-seeds")) {
+			experiment.setPerSampleSeeds(Boolean.parseBoolean(config.getProperty("per-sample-seeds").trim()));
+		}
+		if(config.containsKey("completion-bound")) {
+			experiment.getSearchOptions().setCompletionBound(Boolean.parseBoolean(config.getProperty("completion-bound").trim()));
+		}
+		if(config.containsKey("search-threads")) {
+			experiment.getSearchOptions().setParallelism(Math.max(0, Integer.parseInt(config.getProperty("search-threads").trim())));
+		}
+		if(config.containsKey("warm-start")) {
+			experiment.setWarmStart(Boolean.parseBoolean(config.getProperty("warm-start").trim()));
+		}
+		if(config.containsKey("transposition-table")) {
+			experiment.getSearchOptions().setTranspositionTableSize(Integer.parseInt(config.getProperty("transposition-table").trim()));
+		}
+		if(config.containsKey("lagrangian-bound")) {
+			experiment.getSearchOptions().setLagrangianBound(Boolean.parseBoolean(config.getProperty("lagrangian-bound").trim()));
+		}
+		if(config.containsKey("time-limit")) {
+			experiment.getSearchOptions().setTimeLimit(Math.max(0, Long.parseLong(config.getProperty("time-limit").trim())));
+		}
+		if(config.containsKey("node-limit")) {
+			experiment.getSearchOptions().setNodeLimit(Math.max(0, Long.parseLong(config.getProperty("node-limit").trim())));
+		}
+		if(config.containsKey("decomposition")) {
+			experiment.getSearchOptions().setDecomposition(Boolean.parseBoolean(config.getProperty("decomposition").trim()));
+		}
+		if(config.containsKey("reduction")) {
+			experiment.getSearchOptions().setReduction(Boolean.parseBoolean(config.getProperty("reduction").trim()));
+		}
+		return experiment;
+	}
+
+}
@@ -0,0 +1,454 @@
+package main;
+
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import drawings.GraphDrawing;
+import drawings.MovingPointSet2D;
+import drawings.SearchOptions;
+import util.Data;
+
+public class Experiment {
+
+	public static final String[] ALGORITHMS = {Data.KRUSKAL, Data.CROSSING_STABLE, Data.MOVING_KRUSKAL, Data.BRUTE_FORCE, Data.BAB, Data.Y_MONOTONE};
+
+	private int sampleSize;
+	private int pointsetSize;
+	private long seed;
+	private Set<String> algorithms;
+	private SampleListener listener;
+	
+	//number of worker threads, samples are drawn independently from per-sample seeds if this exceeds 1
+	private int threads;
+	private boolean perSampleSeeds;
+	
+	//options of the branch-and-bound search
+	private SearchOptions searchOptions;
+	//specifies if the branch-and-bound search starts from the movingKruskal tree as incumbent
+	private boolean warmStart;
+
+	//state of the most recent sample
+	private MovingPointSet2D pointset;
+	private GraphDrawing nonPlanarMST;
+	private GraphDrawing crossingStable;
+	private GraphDrawing greedy;
+	private GraphDrawing bruteForce;
+	private GraphDrawing branchAndBound;
+	private GraphDrawing yMono;
+
+	/**
+	 * Callback that is notified after each sample has been evaluated
+	 */
+	public interface SampleListener {
+		void sampleCompleted(Experiment experiment);
+	}
+
+	public Experiment(int sampleSize, int pointsetSize, long seed) {
+		this.sampleSize = sampleSize;
+		this.pointsetSize = pointsetSize;
+		this.seed = seed;
+		this.threads = 1;
+		this.perSampleSeeds = false;
+		this.searchOptions = new SearchOptions();
+		this.warmStart = false;
+		this.algorithms = new LinkedHashSet<String>();
+		for(String algorithm : ALGORITHMS) {
+			this.algorithms.add(algorithm);
+		}
+	}
+
+	/**
+	 * Restricts the experiment to the given algorithms, all other algorithms are skipped and their entries stay 0
+	 * @param algorithms Entry classes as defined in Data
+	 * @throws IllegalArgumentException
+	 */
+	public void setAlgorithms(Set<String> algorithms) {
+		for(String algorithm : algorithms) {
+			if(!isKnownAlgorithm(algorithm)) {
+				throw new IllegalArgumentException("Algorithm unknown: " + algorithm);
+			}
+		}
+		this.algorithms = new LinkedHashSet<String>(algorithms);
+	}
+
+	/**
+	 * Determines if the argument denotes an algorithm that can be run by an experiment
+	 * @param algorithm Entry class as defined in Data
+	 * @return true if the algorithm is known, false otherwise
+	 */
+	public static boolean isKnownAlgorithm(String algorithm) {
+		for(String known : ALGORITHMS) {
+			if(known.equals(algorithm)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Evaluates all selected algorithms on randomized pointsets
+	 * @throws IllegalStateException
+	 * @return Collected statistical data
+	 */
+	public Data run() {
+		if(this.threads > 1 || this.perSampleSeeds) {
+			return runIndependentSamples();
+		}
+		
+		Random random = new Random(this.seed);
+		Data data = new Data(this.sampleSize, this.pointsetSize);
+		this.pointset = new MovingPointSet2D(this.pointsetSize);
+
+		for (int i = 1; i <= this.sampleSize; i++) {
+			printProgress(i);
+
+			this.pointset.randomizeMovingPointSet(random);
+			this.pointset.enforceGeneralPosition(random);
+
+			SampleResult result = evaluate(this.pointset);
+			result.addTo(data);
+			keepDrawings(result);
+
+			if(this.listener != null) {
+				this.listener.sampleCompleted(this);
+			}
+		}
+		return data;
+	}
+	
+	/**
+	 * Evaluates all samples on a pool of worker threads. Every sample draws its pointset from its own seed, 
+	 * so the results do not depend on the number of threads. Results are added to the data in sample order.
+	 * @throws IllegalStateException
+	 * @return Collected statistical data
+	 */
+	private Data runIndependentSamples() {
+		if(this.listener != null) {
+			throw new IllegalStateException("Sample listeners require sequential sampling with a shared seed");
+		}
+		
+		SampleResult[] results = new SampleResult[this.sampleSize];
+		AtomicInteger completed = new AtomicInteger(0);
+		ForkJoinPool pool = new ForkJoinPool(Math.max(1, this.threads));
+		try {
+			pool.submit(() -> IntStream.range(0, this.sampleSize).parallel().forEach(i -> {
+				Random random = new Random(sampleSeed(this.seed, i));
+				MovingPointSet2D samplePointset = new MovingPointSet2D(this.pointsetSize);
+				samplePointset.randomizeMovingPointSet(random);
+				samplePointset.enforceGeneralPosition(random);
+				
+				SampleResult result = evaluate(samplePointset);
+				//only the drawings of the last sample are kept for visualisation
+				if(i < this.sampleSize - 1) {
+					result.discardDrawings();
+				}
+				results[i] = result;
+				printProgress(completed.incrementAndGet());
+			})).get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Sampling was interrupted", e);
+		}
+		catch (ExecutionException e) {
+			throw new IllegalStateException("Sampling failed", e.getCause());
+		}
+		finally {
+			pool.shutdown();
+		}
+		
+		Data data = new Data(this.sampleSize, this.pointsetSize);
+		for(SampleResult result : results) {
+			result.addTo(data);
+		}
+		if(this.sampleSize > 0) {
+			keepDrawings(results[this.sampleSize - 1]);
+		}
+		return data;
+	}
+	
+	/**
+	 * Derives the seed of a single sample from the seed of the experiment (SplitMix64 finalizer)
+	 * @param seed Seed of the experiment
+	 * @param sample Index of the sample
+	 * @return Seed for the randomness generator of the sample
+	 */
+	public static long sampleSeed(long seed, int sample) {
+		long z = seed + (sample + 1) * 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+	
+	private void printProgress(int completedSamples) {
+		float progressPercent = ((float) completedSamples/ (float) this.sampleSize)*100;
+		if(progressPercent == (int) progressPercent) {
+			System.out.println("Sampling " + progressPercent + "% completed");
+		}
+	}
+
+	/**
+	 * Runs all selected algorithms on a pointset
+	 * @param pointset Moving pointset of the sample
+	 * @return Results of all selected algorithms
+	 */
+	private SampleResult evaluate(MovingPointSet2D pointset) {
+		SampleResult result = new SampleResult();
+		result.pointset = pointset;
+		
+		if(this.algorithms.contains(Data.KRUSKAL)) {
+			result.nonPlanarMST = new GraphDrawing(pointset);
+			result.nonPlanarEdgesConsidered = result.nonPlanarMST.kruskal();
+			result.nonPlanarWeight = result.nonPlanarMST.getTotalWeight();
+		}
+
+		if(this.algorithms.contains(Data.CROSSING_STABLE)) {
+			result.crossingStable = new GraphDrawing(pointset);
+			result.crossingStableEdgesConsidered = result.crossingStable.crossingStableMST();
+			result.crossingStableWeight = result.crossingStable.getTotalWeight();
+		}
+
+		if(this.algorithms.contains(Data.MOVING_KRUSKAL)) {
+			result.greedy = new GraphDrawing(pointset);
+			result.greedyEdgesConsidered = result.greedy.movingKruskal();
+			result.greedyCrossingsConsidered = result.greedy.getComparisonsCrossingCriterion();
+			result.greedyWeight = result.greedy.getTotalWeight();
+		}
+
+		if(this.algorithms.contains(Data.BRUTE_FORCE)) {
+			result.bruteForce = new GraphDrawing(pointset);
+			//the brute force search only shares the budget and the reduction, not the pruning options
+			SearchOptions budget = new SearchOptions();
+			budget.setTimeLimit(this.searchOptions.getTimeLimit());
+			budget.setNodeLimit(this.searchOptions.getNodeLimit());
+			//the reduction is exact, the brute force search still enumerates every planar spanning tree of the core
+			budget.setReduction(this.searchOptions.isReduction());
+			result.bruteForce.setSearchOptions(budget);
+			result.bruteForceEdgesConsidered = result.bruteForce.optimalSlow();
+			result.bruteForceCrossingsConsidered = result.bruteForce.getComparisonsCrossingCriterion();
+			result.bruteForceWeight = weightOf(result.bruteForce);
+			result.bruteForceProven = result.bruteForce.isProvenOptimal();
+		}
+
+		if(this.algorithms.contains(Data.BAB)) {
+			result.branchAndBound = new GraphDrawing(pointset);
+			result.branchAndBound.setSearchOptions(this.searchOptions);
+			if(this.warmStart) {
+				GraphDrawing initial = result.greedy;
+				if(initial == null) {
+					initial = new GraphDrawing(pointset);
+					initial.movingKruskal();
+				}
+				result.branchAndBoundEdgesConsidered = result.branchAndBound.branchAndBound(initial.getEdgeList());
+			}
+			else {
+				result.branchAndBoundEdgesConsidered = result.branchAndBound.branchAndBound();
+			}
+			result.branchAndBoundCrossingsConsidered = result.branchAndBound.getComparisonsCrossingCriterion();
+			result.branchAndBoundWeight = weightOf(result.branchAndBound);
+			result.branchAndBoundProven = result.branchAndBound.isProvenOptimal();
+			result.lagrangianBound = result.branchAndBound.getLagrangianBound();
+			result.fixedEdges = result.branchAndBound.getFixedEdges();
+			result.removedEdges = result.branchAndBound.getRemovedEdges();
+		}
+
+		if(this.algorithms.contains(Data.Y_MONOTONE)) {
+			result.yMono = new GraphDrawing(pointset);
+			result.yMonotoneWeight = result.yMono.yMonotonePath();
+		}
+		return result;
+	}
+	
+	/**
+	 * @return Weight of the drawing, or NaN if a search limited by a budget found no tree
+	 */
+	private static double weightOf(GraphDrawing drawing) {
+		return drawing.getEdgeList() == null ? Double.NaN : drawing.getTotalWeight();
+	}
+	
+	private void keepDrawings(SampleResult result) {
+		this.pointset = result.pointset;
+		this.nonPlanarMST = result.nonPlanarMST;
+		this.crossingStable = result.crossingStable;
+		this.greedy = result.greedy;
+		this.bruteForce = result.bruteForce;
+		this.branchAndBound = result.branchAndBound;
+		this.yMono = result.yMono;
+	}
+	
+	/**
+	 * Results of all algorithms on a single sample
+	 */
+	private class SampleResult {
+		
+		MovingPointSet2D pointset;
+		GraphDrawing nonPlanarMST;
+		GraphDrawing crossingStable;
+		GraphDrawing greedy;
+		GraphDrawing bruteForce;
+		GraphDrawing branchAndBound;
+		GraphDrawing yMono;
+		
+		int nonPlanarEdgesConsidered;
+		int crossingStableEdgesConsidered;
+		int greedyEdgesConsidered;
+		int bruteForceEdgesConsidered;
+		int branchAndBoundEdgesConsidered;
+		
+		int greedyCrossingsConsidered;
+		int bruteForceCrossingsConsidered;
+		int branchAndBoundCrossingsConsidered;
+		
+		double nonPlanarWeight;
+		double crossingStableWeight;
+		double greedyWeight;
+		double bruteForceWeight;
+		double branchAndBoundWeight;
+		double lagrangianBound;
+		int fixedEdges;
+		int removedEdges;
+		
+		boolean bruteForceProven;
+		boolean branchAndBoundProven;
+		double yMonotoneWeight;
+		
+		void discardDrawings() {
+			this.pointset = null;
+			this.nonPlanarMST = null;
+			this.crossingStable = null;
+			this.greedy = null;
+			this.bruteForce = null;
+			this.branchAndBound = null;
+			this.yMono = null;
+		}
+		
+		/**
+		 * Adds the results of all selected algorithms to the data
+		 * @param data Collected statistical data
+		 */
+		void addTo(Data data) {
+			if(algorithms.contains(Data.KRUSKAL)) {
+				data.addEntry(Data.KRUSKAL, this.nonPlanarWeight, this.nonPlanarEdgesConsidered);
+			}
+			if(algorithms.contains(Data.CROSSING_STABLE)) {
+				data.addEntry(Data.CROSSING_STABLE, this.crossingStableWeight, this.crossingStableEdgesConsidered);
+			}
+			if(algorithms.contains(Data.MOVING_KRUSKAL)) {
+				data.addEntry(Data.MOVING_KRUSKAL, this.greedyWeight, this.greedyEdgesConsidered, this.greedyCrossingsConsidered);
+			}
+			if(algorithms.contains(Data.BRUTE_FORCE)) {
+				data.addEntry(Data.BRUTE_FORCE, this.bruteForceWeight, this.bruteForceEdgesConsidered, this.bruteForceCrossingsConsidered, this.bruteForceProven);
+			}
+			if(algorithms.contains(Data.BAB)) {
+				data.addEntry(Data.BAB, this.branchAndBoundWeight, this.branchAndBoundEdgesConsidered, this.branchAndBoundCrossingsConsidered, this.branchAndBoundProven);
+				if(searchOptions.isLagrangianBound()) {
+					data.addEntry(Data.LAGRANGIAN, this.lagrangianBound);
+				}
+				if(searchOptions.isReduction()) {
+					data.addReduction(this.fixedEdges, this.removedEdges);
+				}
+			}
+			if(algorithms.contains(Data.Y_MONOTONE)) {
+				data.addEntry(Data.Y_MONOTONE, this.yMonotoneWeight);
+			}
+		}
+	}
+
+	public void setSampleListener(SampleListener listener) {
+		this.listener = listener;
+	}
+	
+	/**
+	 * Sets the number of worker threads. More than one thread implies per-sample seeds.
+	 * @param threads Number of worker threads
+	 */
+	public void setThreads(int threads) {
+		this.threads = threads;
+	}
+	
+	public int getThreads() {
+		return this.threads;
+	}
+	
+	/**
+	 * Draws every sample from its own seed, so that a sequential run reproduces a parallel run exactly
+	 * @param perSampleSeeds Specifies if samples are drawn from per-sample seeds
+	 */
+	public void setPerSampleSeeds(boolean perSampleSeeds) {
+		this.perSampleSeeds = perSampleSeeds;
+	}
+
+	public SearchOptions getSearchOptions() {
+		return this.searchOptions;
+	}
+	
+	/**
+	 * Sets the options of the branch-and-bound search
+	 * @param searchOptions Search options
+	 */
+	public void setSearchOptions(SearchOptions searchOptions) {
+		this.searchOptions = searchOptions;
+	}
+
+	public boolean isWarmStart() {
+		return this.warmStart;
+	}
+	
+	/**
+	 * Specifies if the branch-and-bound search starts from the movingKruskal tree of the sample as incumbent
+	 * @param warmStart Specifies if the search is warm-started
+	 */
+	public void setWarmStart(boolean warmStart) {
+		this.warmStart = warmStart;
+	}
+
+	public int getSampleSize() {
+		return this.sampleSize;
+	}
+
+	public int getPointsetSize() {
+		return this.pointsetSize;
+	}
+
+	public long getSeed() {
+		return this.seed;
+	}
+
+	public Set<String> getAlgorithms() {
+		return this.algorithms;
+	}
+
+	public MovingPointSet2D getPointset() {
+		return this.pointset;
+	}
+
+	public GraphDrawing getNonPlanarMST() {
+		return this.nonPlanarMST;
+	}
+
+	public GraphDrawing getCrossingStable() {
+		return this.crossingStable;
+	}
+
+	public GraphDrawing getGreedy() {
+		return this.greedy;
+	}
+
+	public GraphDrawing getBruteForce() {
+		return this.bruteForce;
+	}
+
+	public GraphDrawing getBranchAndBound() {
+		return this.branchAndBound;
+	}
+
+	public GraphDrawing getYMonotone() {
+		return this.yMono;
+	}
+
+}
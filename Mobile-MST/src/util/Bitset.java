@@ -0,0 +1,57 @@
+package util;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size set of non-negative integers backed by an array of 64-bit words. <br>
+ * The words are exposed, so that callers can combine several sets word by word.
+ */
+public class Bitset {
+
+	private long[] words;
+	private long size;
+
+	/**
+	 * Creates an empty set
+	 * @param size Number of elements that can be stored, elements range from 0 to size-1
+	 * @throws IllegalArgumentException
+	 */
+	public Bitset(long size) {
+		if(size < 0 || (size + 63) / 64 > Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException("Unsupported bitset size: " + size);
+		}
+		this.size = size;
+		this.words = new long[(int) ((size + 63) / 64)];
+	}
+
+	public boolean get(long index) {
+		return (this.words[(int) (index >>> 6)] & (1L << index)) != 0;
+	}
+
+	public void set(long index) {
+		this.words[(int) (index >>> 6)] |= 1L << index;
+	}
+
+	public void clear(long index) {
+		this.words[(int) (index >>> 6)] &= ~(1L << index);
+	}
+
+	/**
+	 * Removes all elements
+	 */
+	public void clear() {
+		Arrays.fill(this.words, 0);
+	}
+
+	/**
+	 * @return Words of the set, bit i of word k stands for element 64*k+i
+	 */
+	public long[] getWords() {
+		return this.words;
+	}
+
+	public long getSize() {
+		return this.size;
+	}
+
+}
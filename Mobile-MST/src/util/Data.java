@@ -15,6 +15,7 @@ public class Data {
 	public static String MOVING_KRUSKAL = "MOVING_KRUSKAL";
 	public static String BRUTE_FORCE = "BRUTE_FORCE";
 	public static String BAB = "BAB";
+	public static String LAGRANGIAN = "LAGRANGIAN";
 	public static String Y_MONOTONE = "Y_MONOTONE";
 	
 	//collected data on Kruskal results
@@ -37,14 +38,25 @@ public class Data {
 	private float[] optimalWeight;
 	private int[] optimalEdgesVisited;
 	private int[] optimalCrossingsConsidered;
+	private boolean[] optimalProven;
 	private int optimalPointer;
 	
 	//collected data on branch-and-bound algorithm for planar MST
 	private float[] branchAndBoundWeight;
 	private int[] branchAndBoundEdgesVisited;
 	private int[] branchAndBoundCrossingsConsidered;
+	private boolean[] branchAndBoundProven;
 	private int branchAndBoundPointer;
 	
+	//collected data on the Lagrangian lower bound of the branch-and-bound algorithm
+	private float[] lagrangianBound;
+	private int lagrangianPointer;
+	
+	//collected data on the reduction of the candidate graph before the branch-and-bound algorithm
+	private int[] fixedEdges;
+	private int[] removedEdges;
+	private int reductionPointer;
+	
 	//collected data on y-monotone path weights
 	private float[] yMonotoneWeight;
 	private int yMonotonePointer;
@@ -59,6 +71,7 @@ public class Data {
 		this.greedyWeight = new float[sampleSize];
 		this.optimalWeight = new float[sampleSize];
 		this.branchAndBoundWeight = new float[sampleSize];
+		this.lagrangianBound = new float[sampleSize];
 		
 		this.yMonotoneWeight = new float[sampleSize];
 		
@@ -72,11 +85,19 @@ public class Data {
 		this.optimalCrossingsConsidered = new int[sampleSize];
 		this.branchAndBoundCrossingsConsidered = new int[sampleSize];
 		
+		this.optimalProven = new boolean[sampleSize];
+		this.branchAndBoundProven = new boolean[sampleSize];
+		
+		this.fixedEdges = new int[sampleSize];
+		this.removedEdges = new int[sampleSize];
+		
 		this.nonPlanarPointer = 0;
 		this.crossingStablePointer = 0;
 		this.greedyPointer = 0;
 		this.optimalPointer = 0;
 		this.branchAndBoundPointer = 0;
+		this.lagrangianPointer = 0;
+		this.reductionPointer = 0;
 		this.yMonotonePointer = 0;
 	}
 	
@@ -112,6 +133,11 @@ public class Data {
 			this.branchAndBoundPointer++;
 			break;
 			
+		case "LAGRANGIAN":
+			this.lagrangianBound[this.lagrangianPointer] = (float) weight;
+			this.lagrangianPointer++;
+			break;
+			
 		case "Y_MONOTONE":
 			this.yMonotoneWeight[this.yMonotonePointer] = (float) weight;
 			this.yMonotonePointer++;
@@ -200,6 +226,43 @@ public class Data {
 			throw new IllegalArgumentException("Entry denominator unknown or incompatible with one or more parameters");
 		}
 	}
+	
+	/**
+	 * Adds the measured weight, visited edges and considered crossings of a data point of an exhaustive search, together with whether its result is proven optimal.
+	 * A search limited by a budget may stop before it can prove the optimality of its result.
+	 * @param entry Class of the entry
+	 * @param weight Measured weight
+	 * @param edgesVisited Number of edges visited during the computation
+	 * @param crossingsConsidered Number of considered Crossings during the computation
+	 * @param provenOptimal Specifies if the result is proven optimal
+	 */
+	public void addEntry(String entry, double weight, int edgesVisited, int crossingsConsidered, boolean provenOptimal) {
+		switch(entry) {
+		
+		case "BRUTE_FORCE":
+			this.optimalProven[this.optimalPointer] = provenOptimal;
+			break;
+		
+		case "BAB":
+			this.branchAndBoundProven[this.branchAndBoundPointer] = provenOptimal;
+			break;
+			
+		default:
+			throw new IllegalArgumentException("Entry denominator unknown or incompatible with one or more parameters");
+		}
+		addEntry(entry, weight, edgesVisited, crossingsConsidered);
+	}
+
+	/**
+	 * Adds the number of candidate edges the reduction fixed and removed before the branch-and-bound algorithm of a data point
+	 * @param fixedEdges Number of fixed edges
+	 * @param removedEdges Number of removed edges
+	 */
+	public void addReduction(int fixedEdges, int removedEdges) {
+		this.fixedEdges[this.reductionPointer] = fixedEdges;
+		this.removedEdges[this.reductionPointer] = removedEdges;
+		this.reductionPointer++;
+	}
 
 	/**
 	 * Prints all contained data to the file in specified path
@@ -211,8 +274,8 @@ public class Data {
 		PrintWriter toFile = new PrintWriter(file);
 			toFile.println("Test data for pointsets of size " + this.pointsetSize + ", sample size: " + this.sampleSize);
 			toFile.println();
-			toFile.println("Weight Comparison,,,,,,,Edges Visited Comparison,,,,,,Crossings Considered Comparison");
-			toFile.println("Non-Planar MST,Crossing-Stable MST,Moving Kruskal,Brute Force MST,Branch-and-Bound MST,y-Monotone Path,,Non-Planar MST,Crossing-Stable MST,Moving Kruskal,Brute Force MST,Branch-and-Bound MST,,Moving Kruskal,Brute Force MST,Branch-and-Bound MST");
+			toFile.println("Weight Comparison,,,,,,,,Edges Visited Comparison,,,,,,Crossings Considered Comparison,,,,Proven Optimal,,,Reduction");
+			toFile.println("Non-Planar MST,Crossing-Stable MST,Moving Kruskal,Brute Force MST,Branch-and-Bound MST,Lagrangian Bound,y-Monotone Path,,Non-Planar MST,Crossing-Stable MST,Moving Kruskal,Brute Force MST,Branch-and-Bound MST,,Moving Kruskal,Brute Force MST,Branch-and-Bound MST,,Brute Force MST,Branch-and-Bound MST,,Fixed Edges,Removed Edges");
 			
 			String dataPoint;
 			
@@ -223,6 +286,7 @@ public class Data {
 				dataPoint += (this.greedyWeight[i] + ",");
 				dataPoint += (this.optimalWeight[i] + ",");
 				dataPoint += (this.branchAndBoundWeight[i] + ",");
+				dataPoint += (this.lagrangianBound[i] + ",");
 				dataPoint += (this.yMonotoneWeight[i]);
 				dataPoint += ",,";
 				dataPoint += (this.nonPlanarEdgesVisited[i] + ",");
@@ -234,6 +298,12 @@ public class Data {
 				dataPoint += (this.greedyCrossingsConsidered[i] + ",");
 				dataPoint += (this.optimalCrossingsConsidered[i] + ",");
 				dataPoint += (this.branchAndBoundCrossingsConsidered[i] + ",");
+				dataPoint += ",";
+				dataPoint += (this.optimalProven[i] + ",");
+				dataPoint += (this.branchAndBoundProven[i]);
+				dataPoint += ",,";
+				dataPoint += (this.fixedEdges[i] + ",");
+				dataPoint += (this.removedEdges[i]);
 				
 				toFile.println(dataPoint);
 			}
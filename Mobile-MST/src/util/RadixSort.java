@@ -0,0 +1,138 @@
+package util;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Stable LSD radix sort of indices by double keys. <br>
+ * Keys are sorted by their IEEE 754 bit pattern, mapped to unsigned integers that preserve the numerical order,
+ * in passes of 11 bits. Passes in which all keys share the same digit are skipped.
+ */
+public class RadixSort {
+
+	private static final int BITS = 11;
+	private static final int BUCKETS = 1 << BITS;
+	private static final int MASK = BUCKETS - 1;
+
+	//minimum number of keys per worker in the parallel variant
+	private static final int CHUNK = 1 << 16;
+
+	/**
+	 * Computes the order of the keys by ascending value, equal keys keep their relative order
+	 * @param keys Array of keys, must not contain NaN
+	 * @param length Number of keys to sort, starting at index 0
+	 * @return Indices of the keys in sorted order
+	 */
+	public static int[] sortedOrder(double[] keys, int length) {
+		return sortedOrder(keys, length, false);
+	}
+
+	/**
+	 * Computes the order of the keys by ascending value using all available cores, equal keys keep their relative order
+	 * @param keys Array of keys, must not contain NaN
+	 * @param length Number of keys to sort, starting at index 0
+	 * @return Indices of the keys in sorted order
+	 */
+	public static int[] parallelSortedOrder(double[] keys, int length) {
+		return sortedOrder(keys, length, true);
+	}
+
+	private static int[] sortedOrder(double[] keys, int length, boolean parallel) {
+		int chunks = 1;
+		if(parallel) {
+			chunks = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), length / CHUNK));
+		}
+		int chunkSize = (length + chunks - 1) / Math.max(1, chunks);
+
+		long[] bits = new long[length];
+		int[] order = new int[length];
+		long[] bitsBuffer = new long[length];
+		int[] orderBuffer = new int[length];
+		fill(bits, order, keys, length, chunks, chunkSize);
+
+		//digits shared by all keys do not change the order
+		long differing = 0;
+		for(int i = 1; i < length; i++) {
+			differing |= bits[i] ^ bits[0];
+		}
+
+		int[][] counts = new int[chunks][BUCKETS];
+		for(int shift = 0; shift < Long.SIZE; shift += BITS) {
+			if(((differing >>> shift) & MASK) == 0) {
+				continue;
+			}
+			pass(bits, order, bitsBuffer, orderBuffer, length, shift, counts, chunkSize);
+
+			long[] tempBits = bits;
+			bits = bitsBuffer;
+			bitsBuffer = tempBits;
+			int[] tempOrder = order;
+			order = orderBuffer;
+			orderBuffer = tempOrder;
+		}
+		return order;
+	}
+
+	/**
+	 * Maps the keys to unsigned integers of the same order and initializes the identity order
+	 */
+	private static void fill(long[] bits, int[] order, double[] keys, int length, int chunks, int chunkSize) {
+		IntStream workers = IntStream.range(0, chunks);
+		if(chunks > 1) {
+			workers = workers.parallel();
+		}
+		workers.forEach(chunk -> {
+			int to = Math.min(length, (chunk + 1) * chunkSize);
+			for(int i = chunk * chunkSize; i < to; i++) {
+				//-0.0 equals 0.0
+				long raw = Double.doubleToRawLongBits(keys[i] == 0 ? 0.0 : keys[i]);
+				bits[i] = raw < 0 ? ~raw : raw ^ Long.MIN_VALUE;
+				order[i] = i;
+			}
+		});
+	}
+
+	/**
+	 * Stable counting sort by the digit at the given shift. Every chunk counts its own digits, so the chunks can scatter independently.
+	 */
+	private static void pass(long[] bits, int[] order, long[] bitsOut, int[] orderOut, int length, int shift, int[][] counts, int chunkSize) {
+		int chunks = counts.length;
+		IntStream workers = IntStream.range(0, chunks);
+		if(chunks > 1) {
+			workers = workers.parallel();
+		}
+		workers.forEach(chunk -> {
+			int[] count = counts[chunk];
+			Arrays.fill(count, 0);
+			int to = Math.min(length, (chunk + 1) * chunkSize);
+			for(int i = chunk * chunkSize; i < to; i++) {
+				count[(int) (bits[i] >>> shift) & MASK]++;
+			}
+		});
+
+		//bucket-major, chunk-minor prefix sums keep the sort stable
+		int offset = 0;
+		for(int digit = 0; digit < BUCKETS; digit++) {
+			for(int chunk = 0; chunk < chunks; chunk++) {
+				int count = counts[chunk][digit];
+				counts[chunk][digit] = offset;
+				offset += count;
+			}
+		}
+
+		workers = IntStream.range(0, chunks);
+		if(chunks > 1) {
+			workers = workers.parallel();
+		}
+		workers.forEach(chunk -> {
+			int[] position = counts[chunk];
+			int to = Math.min(length, (chunk + 1) * chunkSize);
+			for(int i = chunk * chunkSize; i < to; i++) {
+				int target = position[(int) (bits[i] >>> shift) & MASK]++;
+				bitsOut[target] = bits[i];
+				orderOut[target] = order[i];
+			}
+		});
+	}
+
+}
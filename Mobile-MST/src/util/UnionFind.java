@@ -1,54 +1,102 @@
 package util;
 
+import java.util.Arrays;
+
+/**
+ * Union-find data structure over the entities 0 to size-1. <br>
+ * Finds are iterative and halve the path to the representative, unions attach the smaller group to the larger one.
+ * A representative stores the negated size of its group, every other entity the index of its parent.
+ */
 public class UnionFind {
 	
 	int[] parents;
 	int size;
+	int groups;
 	
 	public UnionFind(int size) {
 		initialize(size);
 	}
 	
 	/**
-	 * Initializes the union find data structure for a number of entities equal to the size of the pointset. Entities are initialized to -1.
+	 * Initializes the union find data structure for a number of entities equal to the size of the pointset. Entities are initialized to -1. <br>
+	 * Reuses the existing array if it is large enough.
+	 * @param size Number of entities
 	 */
 	public void initialize(int size) {
 		this.size = size;
-		this.parents = new int[this.size];
-		
-		for (int i = 0; i < size; i++) {
-			parents[i] = -1;
+		if(this.parents == null || this.parents.length < size) {
+			this.parents = new int[this.size];
 		}
+		reset();
+	}
+	
+	/**
+	 * Separates all entities into groups of their own without allocating a new array
+	 */
+	public void reset() {
+		Arrays.fill(this.parents, 0, this.size, -1);
+		this.groups = this.size;
 	}
 	
 	/**
 	 * Retrieves the group representative for an entity in a union find data structure
-	 * @param parents A unit find data structure
-	 * @param child Index of an entity in the unit find data structure
-	 * @return Index of the entitie's group representative
+	 * @param child Index of an entity in the union find data structure
+	 * @return Index of the entity's group representative
 	 */
 	public int getRepresentative(int child) {
-		if (parents[child] == -1) {
-			return child;
+		while (parents[child] >= 0) {
+			int parent = parents[child];
+			if (parents[parent] >= 0) {
+				//path halving, point to the grandparent
+				parents[child] = parents[parent];
+			}
+			child = parents[child];
 		}
-		return getRepresentative(parents[child]);
+		return child;
 	}
 	
 	/**
-	 * Adds a new relation between to entities in a unit find data structure
-	 * @param parents A unit find data structure
+	 * Adds a new relation between two entities in a union find data structure
 	 * @param src The first entity for the added relation
 	 * @param dest The second entity for the added relation
 	 */
 	public void union(int src, int dest) {
 		int rep1 = getRepresentative(src);
 		int rep2 = getRepresentative(dest);
-		parents[rep1] = rep2;
+		if (rep1 == rep2) {
+			return;
+		}
+		//sizes are stored negated, the larger group keeps its representative
+		if (parents[rep1] > parents[rep2]) {
+			int temp = rep1;
+			rep1 = rep2;
+			rep2 = temp;
+		}
+		parents[rep1] += parents[rep2];
+		parents[rep2] = rep1;
+		groups--;
 	}
 	
 	public boolean inSameSet(int entry1, int entry2) {
 		return (getRepresentative(entry1) == getRepresentative(entry2));
 	}
+	
+	/**
+	 * Retrieves the number of entities in the group of an entity
+	 * @param child Index of an entity in the union find data structure
+	 * @return Size of the entity's group
+	 */
+	public int getGroupSize(int child) {
+		return -parents[getRepresentative(child)];
+	}
+	
+	public int getGroupCount() {
+		return groups;
+	}
+	
+	public int getSize() {
+		return size;
+	}
 
 }
 
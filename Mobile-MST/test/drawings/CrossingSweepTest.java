@@ -0,0 +1,170 @@
+package drawings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the crossing table of the plane sweep with the pairwise table, which must agree bit for bit with LineSegment.isCrossing
+ */
+public class CrossingSweepTest {
+
+	@Test
+	public void randomPointsets() {
+		Random random = new Random(42);
+		for(int size : new int[] {2, 5, 10, 20, 30}) {
+			for(int sample = 0; sample < 10; sample++) {
+				MovingPointSet2D pointset = new MovingPointSet2D(size);
+				pointset.randomizeMovingPointSet(random);
+				assertSameCrossings(EdgeTable.completeGraph(pointset).toEdges());
+				assertSameCrossings(pointset.getCandidateGraph().toEdges());
+			}
+		}
+	}
+
+	@Test
+	public void worstCases() {
+		for(int iterations = 1; iterations <= 4; iterations++) {
+			MovingPointSet2D pointset = new MovingPointSet2D();
+			pointset.iterativeWorstCase(iterations);
+			assertSameCrossings(EdgeTable.completeGraph(pointset).toEdges());
+		}
+	}
+
+	@Test
+	public void degenerateGrids() {
+		//few distinct coordinates produce duplicate points, collinear overlaps and T-junctions
+		Random random = new Random(7);
+		for(int grid : new int[] {2, 3, 4, 6}) {
+			for(int sample = 0; sample < 50; sample++) {
+				MovingPoint2D[] points = new MovingPoint2D[4 + random.nextInt(8)];
+				for(int i = 0; i < points.length; i++) {
+					points[i] = new MovingPoint2D(random.nextInt(grid) * 10, random.nextInt(grid) * 10, 0, 0);
+				}
+				assertSameCrossings(allPairs(points));
+			}
+		}
+	}
+
+	@Test
+	public void wideCoordinates() {
+		//the largest extent the sweep handles exactly, far away from the origin
+		Random random = new Random(11);
+		int extent = 2 * CrossingSweep.MAX_COORDINATE;
+		for(int sample = 0; sample < 100; sample++) {
+			int grid = 2 + random.nextInt(5);
+			int offset = random.nextInt(2000000) - 1000000;
+			MovingPoint2D[] points = new MovingPoint2D[4 + random.nextInt(10)];
+			for(int i = 0; i < points.length; i++) {
+				if(sample % 2 == 0) {
+					points[i] = new MovingPoint2D(offset + random.nextInt(extent + 1), offset - random.nextInt(extent + 1), 0, 0);
+				}
+				else {
+					points[i] = new MovingPoint2D(offset + random.nextInt(grid) * (extent / (grid - 1)), offset - random.nextInt(grid) * (extent / (grid - 1)), 0, 0);
+				}
+			}
+			Edge[] edges = allPairs(points);
+			assertTrue(new CrossingSweep(edges).isSweep());
+			assertSameCrossings(edges);
+		}
+	}
+
+	@Test
+	public void largeCoordinates() {
+		//beyond the exact range of the sweep the pairs are tested one by one
+		Random random = new Random(13);
+		for(int sample = 0; sample < 20; sample++) {
+			MovingPoint2D[] points = new MovingPoint2D[4 + random.nextInt(10)];
+			for(int i = 0; i < points.length; i++) {
+				points[i] = new MovingPoint2D(random.nextInt(1000000), random.nextInt(1000000), 0, 0);
+			}
+			Edge[] edges = allPairs(points);
+			assertFalse(new CrossingSweep(edges).isSweep());
+			assertSameCrossings(edges);
+		}
+	}
+
+	@Test
+	public void collinearPoints() {
+		MovingPoint2D[] points = new MovingPoint2D[8];
+		for(int i = 0; i < points.length; i++) {
+			points[i] = new MovingPoint2D(5 * i, 3 * i, 0, 0);
+		}
+		assertSameCrossings(allPairs(points));
+	}
+
+	/**
+	 * @return Edges between all pairs of the points, edge i has id i
+	 */
+	private static Edge[] allPairs(MovingPoint2D[] points) {
+		Edge[] edges = new Edge[points.length * (points.length - 1) / 2];
+		int id = 0;
+		for(int i = 0; i < points.length; i++) {
+			for(int j = i + 1; j < points.length; j++) {
+				edges[id] = new Edge(i, j, new LineSegment(points[i], points[j]));
+				edges[id].setId(id);
+				id++;
+			}
+		}
+		return edges;
+	}
+
+	private static void assertSameCrossings(Edge[] edges) {
+		CrossingTable pairwise = new CrossingTable(edges, false);
+		CrossingTable parallel = new CrossingTable(edges, true);
+		CrossingTable sweep = CrossingTable.fromSweep(edges);
+		long pairs = 0;
+		for(int a = 0; a < edges.length; a++) {
+			for(int b = 0; b < edges.length; b++) {
+				boolean expected = a != b && edges[a].getPosition().isCrossing(edges[b].getPosition());
+				if(pairwise.crosses(a, b) != expected || parallel.crosses(a, b) != expected || sweep.crosses(a, b) != expected) {
+					fail("Tables disagree on edges " + a + " and " + b + ": expected " + expected
+							+ ", pairwise " + pairwise.crosses(a, b) + ", parallel " + parallel.crosses(a, b) + ", sweep " + sweep.crosses(a, b));
+				}
+				if(expected && a < b) {
+					pairs++;
+				}
+			}
+		}
+		assertEquals(pairs, CrossingSweep.countCrossings(edges));
+		assertTrue(sweep.isSparse());
+		assertSameRows(pairwise, sweep);
+
+		//every third edge in descending order
+		int[] ids = new int[(edges.length + 2) / 3];
+		for(int i = 0; i < ids.length; i++) {
+			ids[i] = 3 * (ids.length - 1 - i);
+		}
+		CrossingTable pairwiseSubset = pairwise.subTable(ids);
+		CrossingTable sweepSubset = sweep.subTable(ids);
+		assertTrue(sweepSubset.isSparse());
+		for(int a = 0; a < ids.length; a++) {
+			for(int b = 0; b < ids.length; b++) {
+				if(pairwiseSubset.crosses(a, b) != pairwise.crosses(ids[a], ids[b]) || sweepSubset.crosses(a, b) != pairwise.crosses(ids[a], ids[b])) {
+					fail("Subsets disagree on edges " + ids[a] + " and " + ids[b]);
+				}
+			}
+		}
+		assertSameRows(pairwiseSubset, sweepSubset);
+	}
+
+	/**
+	 * Compares the crossing edges of every edge as counted and as enumerated by nextCrossing
+	 */
+	private static void assertSameRows(CrossingTable expected, CrossingTable actual) {
+		for(int a = 0; a < expected.getSize(); a++) {
+			assertEquals(expected.countCrossings(a), actual.countCrossings(a));
+			for(int from = 0; from <= expected.getSize(); from++) {
+				if(expected.nextCrossing(a, from) != actual.nextCrossing(a, from)) {
+					fail("Tables disagree on the next crossing of edge " + a + " from " + from);
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,43 @@
+package drawings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the point criterion queries of the y-index with a scan over all points while points are moved through their own setters
+ */
+public class MovingPointSet2DTest {
+
+	@Test
+	public void pointsMovedThroughSetters() {
+		Random random = new Random(17);
+		MovingPointSet2D pointset = new MovingPointSet2D(20);
+		pointset.randomizeMovingPointSet(random);
+		for(int round = 0; round < 50; round++) {
+			//the candidate graph queries all edges before a point is moved
+			pointset.getCandidateGraph();
+			MovingPoint2D point = pointset.getPoint(random.nextInt(pointset.getsize()));
+			point.setyCoord(random.nextInt(500));
+			point.setxMovement(random.nextInt(1000) - 500);
+			for(int i = 0; i < pointset.getsize(); i++) {
+				for(int j = i + 1; j < pointset.getsize(); j++) {
+					LineSegment line = new LineSegment(pointset.getPoint(i), pointset.getPoint(j));
+					assertEquals(scan(pointset, line), pointset.violatesPointCriterion(line));
+				}
+			}
+		}
+	}
+
+	private static boolean scan(MovingPointSet2D pointset, LineSegment line) {
+		for(MovingPoint2D p : pointset.getPoints()) {
+			if(p.compareTo(line.getStartPoint()) != 0 && p.compareTo(line.getEndPoint()) != 0 && line.violatesPointCriterion(p)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
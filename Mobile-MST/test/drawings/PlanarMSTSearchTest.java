@@ -0,0 +1,89 @@
+package drawings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pins the results and counters of the exhaustive search to the values of the recursive search it replaced
+ */
+public class PlanarMSTSearchTest {
+
+	private static final double EPSILON = 1e-9;
+
+	@Test
+	public void worstCases() {
+		//iterations, weight, visits and comparisons of optimalSlow, visits and comparisons of branchAndBound
+		Object[][] expected = {
+				{1, 823.7233315999441, 15, 40, 15, 40},
+				{2, 1122.4466631998882, 425, 1845, 204, 695},
+				{3, 1421.1699947998322, 1162849, 5258292, 71986, 233003},
+		};
+		for(Object[] row : expected) {
+			MovingPointSet2D pointset = new MovingPointSet2D();
+			pointset.iterativeWorstCase((int) row[0]);
+			assertCounters(pointset, (double) row[1], (int) row[2], (int) row[3], (int) row[4], (int) row[5]);
+		}
+	}
+
+	@Test
+	public void randomCase() {
+		assertCounters(randomPointset(), 1592.2956537205926, 25, 55, 25, 55);
+	}
+
+	@Test
+	public void searchOptionsKeepTheOptimum() {
+		for(int iterations = 1; iterations <= 3; iterations++) {
+			MovingPointSet2D pointset = new MovingPointSet2D();
+			pointset.iterativeWorstCase(iterations);
+			assertOptionsKeepTheOptimum(pointset);
+		}
+		assertOptionsKeepTheOptimum(randomPointset());
+	}
+
+	private static MovingPointSet2D randomPointset() {
+		MovingPointSet2D pointset = new MovingPointSet2D(12);
+		pointset.randomizeMovingPointSet(new Random(42));
+		return pointset;
+	}
+
+	private static void assertCounters(MovingPointSet2D pointset, double weight, int slowVisits, int slowComparisons, int babVisits, int babComparisons) {
+		GraphDrawing slow = new GraphDrawing(pointset);
+		assertEquals(slowVisits, slow.optimalSlow());
+		assertEquals(weight, slow.getTotalWeight(), EPSILON);
+		assertEquals(slowComparisons, slow.getComparisonsCrossingCriterion());
+
+		GraphDrawing bab = new GraphDrawing(pointset);
+		assertEquals(babVisits, bab.branchAndBound());
+		assertEquals(weight, bab.getTotalWeight(), EPSILON);
+		assertEquals(babComparisons, bab.getComparisonsCrossingCriterion());
+	}
+
+	/**
+	 * Runs branch-and-bound with every single option and with all options together, all of which must find a tree of the optimal weight
+	 */
+	private static void assertOptionsKeepTheOptimum(MovingPointSet2D pointset) {
+		GraphDrawing reference = new GraphDrawing(pointset);
+		reference.optimalSlow();
+		double weight = reference.getTotalWeight();
+
+		for(int variant = 0; variant <= 6; variant++) {
+			SearchOptions options = new SearchOptions();
+			boolean all = variant == 6;
+			options.setCompletionBound(variant == 0 || all);
+			options.setParallelism(variant == 1 || all ? 2 : 1);
+			options.setTranspositionTableSize(variant == 2 || all ? 1 << 12 : 0);
+			options.setLagrangianBound(variant == 3 || all);
+			options.setDecomposition(variant == 4 || all);
+			options.setReduction(variant == 5 || all);
+
+			GraphDrawing drawing = new GraphDrawing(pointset);
+			drawing.setSearchOptions(options);
+			drawing.branchAndBound();
+			assertEquals(weight, drawing.getTotalWeight(), EPSILON, "Variant " + variant + " on " + pointset.getsize() + " points");
+		}
+	}
+
+}
@@ -0,0 +1,71 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import drawings.GraphDrawing;
+import drawings.MovingPointSet2D;
+
+/**
+ * Throughput and latency percentiles of the exponential planar MST algorithms in GraphDrawing. <br>
+ * Pointset sizes are kept small since both algorithms take exponential time. Run with
+ * "java -jar benchmarks/target/benchmarks.jar ExactBenchmark -prof gc" to also record the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExactBenchmark {
+	
+	@Param({"random", "worstCase"})
+	public String family;
+	
+	@Param({"8", "16", "24"})
+	public int size;
+	
+	private MovingPointSet2D[] instances;
+	private int next;
+	
+	@Setup
+	public void setup() {
+		this.instances = Instances.generate(this.family, this.size, 16, 13052021);
+		this.next = 0;
+	}
+	
+	/**
+	 * Returns a fresh copy of the next instance, so that the candidate graph and crossing table cached by the pointset are recomputed in every invocation
+	 */
+	private MovingPointSet2D nextInstance() {
+		MovingPointSet2D instance = this.instances[this.next];
+		this.next = (this.next + 1) % this.instances.length;
+		return new MovingPointSet2D(instance);
+	}
+	
+	@Benchmark
+	public double optimalSlow() {
+		GraphDrawing graph = new GraphDrawing(nextInstance());
+		graph.optimalSlow();
+		return graph.getTotalWeight();
+	}
+	
+	@Benchmark
+	public double branchAndBound() {
+		GraphDrawing graph = new GraphDrawing(nextInstance());
+		graph.branchAndBound();
+		return graph.getTotalWeight();
+	}
+
+}
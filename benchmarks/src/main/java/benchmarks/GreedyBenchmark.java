@@ -0,0 +1,83 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import drawings.GraphDrawing;
+import drawings.MovingPointSet2D;
+
+/**
+ * Throughput and latency percentiles of the polynomial algorithms in GraphDrawing. <br>
+ * Run with "java -jar benchmarks/target/benchmarks.jar GreedyBenchmark -prof gc" to also record the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GreedyBenchmark {
+	
+	@Param({"random", "worstCase"})
+	public String family;
+	
+	@Param({"16", "64", "256"})
+	public int size;
+	
+	private MovingPointSet2D[] instances;
+	private int next;
+	
+	@Setup
+	public void setup() {
+		this.instances = Instances.generate(this.family, this.size, 16, 13052021);
+		this.next = 0;
+	}
+	
+	/**
+	 * Returns a fresh copy of the next instance, so that the candidate graphs cached by the pointset are recomputed in every invocation
+	 */
+	private MovingPointSet2D nextInstance() {
+		MovingPointSet2D instance = this.instances[this.next];
+		this.next = (this.next + 1) % this.instances.length;
+		return new MovingPointSet2D(instance);
+	}
+	
+	@Benchmark
+	public double kruskal() {
+		GraphDrawing graph = new GraphDrawing(nextInstance());
+		graph.kruskal();
+		return graph.getTotalWeight();
+	}
+	
+	@Benchmark
+	public double crossingStableMST() {
+		GraphDrawing graph = new GraphDrawing(nextInstance());
+		graph.crossingStableMST();
+		return graph.getTotalWeight();
+	}
+	
+	@Benchmark
+	public double movingKruskal() {
+		GraphDrawing graph = new GraphDrawing(nextInstance());
+		graph.movingKruskal();
+		return graph.getTotalWeight();
+	}
+	
+	@Benchmark
+	public double yMonotonePath() {
+		GraphDrawing graph = new GraphDrawing(nextInstance());
+		return graph.yMonotonePath();
+	}
+
+}
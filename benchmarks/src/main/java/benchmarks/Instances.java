@@ -0,0 +1,45 @@
+package benchmarks;
+
+import java.util.Random;
+
+import drawings.MovingPointSet2D;
+
+public class Instances {
+	
+	public static final String RANDOM = "random";
+	public static final String WORST_CASE = "worstCase";
+	
+	/**
+	 * Generates a fixed set of benchmark instances so that every fork measures the same pointsets
+	 * @param family Instance family, either RANDOM or WORST_CASE
+	 * @param size Number of points per instance (rounded down to a multiple of 8 for WORST_CASE)
+	 * @param count Number of instances to generate
+	 * @param seed Seed for the randomness generator
+	 * @throws IllegalArgumentException
+	 * @return Array of moving pointsets
+	 */
+	public static MovingPointSet2D[] generate(String family, int size, int count, long seed) {
+		MovingPointSet2D[] instances = new MovingPointSet2D[count];
+		Random random = new Random(seed);
+		for(int i = 0; i < count; i++) {
+			switch(family) {
+			case RANDOM:
+				instances[i] = new MovingPointSet2D(size);
+				instances[i].randomizeMovingPointSet(random);
+				instances[i].enforceGeneralPosition(random);
+				break;
+				
+			case WORST_CASE:
+				//the worst case family is deterministic, all instances are identical
+				instances[i] = new MovingPointSet2D();
+				instances[i].iterativeWorstCase(Math.max(1, size / 8));
+				break;
+				
+			default:
+				throw new IllegalArgumentException("Instance family unknown");
+			}
+		}
+		return instances;
+	}
+
+}